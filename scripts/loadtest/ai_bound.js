@@ -0,0 +1,35 @@
+// AI 응답을 기다리는 동안 요청 스레드를 점유하는 경로(원문 스트리밍 조회) 부하 테스트
+// - 실행: run.sh 참고 (환경변수 BASE_URL, USER_ID, TITLE, EPISODE_ID, VUS, DURATION)
+// - 원문 캐시를 끄고(manuscript.cache.max-size-mb=0) 띄워야 매 요청이 AI 스텁까지 간다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_ID = __ENV.USER_ID || 'loadtest';
+const TITLE = encodeURIComponent(__ENV.TITLE || 'loadtest');
+const EPISODE_ID = __ENV.EPISODE_ID || '1';
+const VUS = parseInt(__ENV.VUS || '400', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        ai_bound: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const res = http.get(
+        `${BASE_URL}/api/v1/author/${USER_ID}/${TITLE}/manuscript/${EPISODE_ID}/text`,
+        { timeout: '180s' });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,81 @@
+"""
+부하 테스트용 AI 서버(FastAPI) 대역
+
+- 실제 AI 서버 대신 고정 지연 후 응답해서, 백엔드가 "AI를 기다리는 동안" 스레드를 얼마나 붙잡는지 측정한다.
+- 표준 라이브러리만 사용 (pip 설치 불필요)
+
+실행:
+    python ai_stub.py --port 8001 --delay-ms 800 --text-kb 64
+
+백엔드는 ai.server.base-url=http://localhost:8001 로 띄운다.
+"""
+
+import argparse
+import json
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+from urllib.parse import urlparse
+
+
+def build_handler(delay_sec, text):
+    body_read = json.dumps({"txt": text}, ensure_ascii=False).encode("utf-8")
+
+    class StubHandler(BaseHTTPRequestHandler):
+        protocol_version = "HTTP/1.1"
+
+        def _send_json(self, payload):
+            self.send_response(200)
+            self.send_header("Content-Type", "application/json; charset=utf-8")
+            self.send_header("Content-Length", str(len(payload)))
+            self.end_headers()
+            self.wfile.write(payload)
+
+        def _drain_body(self):
+            length = int(self.headers.get("Content-Length") or 0)
+            if length:
+                self.rfile.read(length)
+
+        def do_GET(self):
+            time.sleep(delay_sec)
+            path = urlparse(self.path).path
+            if path == "/novel_read":
+                self._send_json(body_read)
+            else:
+                self._send_json(b"{}")
+
+        def do_POST(self):
+            self._drain_body()
+            time.sleep(delay_sec)
+            path = urlparse(self.path).path
+            if path == "/novel_save":
+                self._send_json(json.dumps({"path": "stub/novel.txt"}).encode("utf-8"))
+            else:
+                self._send_json(b"{}")
+
+        def log_message(self, fmt, *args):
+            # 요청마다 로그를 남기면 스텁 자체가 병목이 됨
+            pass
+
+    return StubHandler
+
+
+def main():
+    parser = argparse.ArgumentParser(description="AI 서버 부하 테스트 스텁")
+    parser.add_argument("--port", type=int, default=8001)
+    parser.add_argument("--delay-ms", type=int, default=800, help="모든 요청에 적용할 응답 지연")
+    parser.add_argument("--text-kb", type=int, default=64, help="/novel_read 원문 크기(KB)")
+    args = parser.parse_args()
+
+    # "가나다라마바사 " = UTF-8 22바이트
+    text = "가나다라마바사 " * max(1, args.text_kb * 1024 // 22)
+    server = ThreadingHTTPServer(("0.0.0.0", args.port), build_handler(args.delay_ms / 1000.0, text))
+    server.daemon_threads = True
+    print(f"AI stub listening on :{args.port} (delay={args.delay_ms}ms, text~{args.text_kb}KB)")
+    try:
+        server.serve_forever()
+    except KeyboardInterrupt:
+        pass
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# 부하 테스트 1회 실행: k6를 돌리는 동안 JVM 스레드 수를 1초 간격으로 수집
+# 사용법: LABEL=platform ./run.sh   /   LABEL=virtual ./run.sh
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+LABEL="${LABEL:-run}"
+OUT_DIR="${OUT_DIR:-./results}"
+mkdir -p "$OUT_DIR"
+
+THREADS_CSV="$OUT_DIR/${LABEL}-threads.csv"
+SUMMARY_JSON="$OUT_DIR/${LABEL}-summary.json"
+
+metric() {
+    curl -sf "$BASE_URL/actuator/metrics/$1" \
+        | python3 -c 'import json,sys; print(int(json.load(sys.stdin)["measurements"][0]["value"]))' \
+        || echo ""
+}
+
+echo "timestamp,jvm.threads.live,jvm.threads.peak" > "$THREADS_CSV"
+(
+    while true; do
+        echo "$(date +%s),$(metric jvm.threads.live),$(metric jvm.threads.peak)" >> "$THREADS_CSV"
+        sleep 1
+    done
+) &
+SAMPLER_PID=$!
+trap 'kill $SAMPLER_PID 2>/dev/null || true' EXIT
+
+k6 run --summary-export "$SUMMARY_JSON" \
+    -e BASE_URL="$BASE_URL" \
+    -e USER_ID="${USER_ID:-loadtest}" \
+    -e TITLE="${TITLE:-loadtest}" \
+    -e EPISODE_ID="${EPISODE_ID:-1}" \
+    -e VUS="${VUS:-400}" \
+    -e DURATION="${DURATION:-2m}" \
+    "$(dirname "$0")/ai_bound.js"
+
+kill $SAMPLER_PID 2>/dev/null || true
+
+python3 - "$THREADS_CSV" "$SUMMARY_JSON" "$LABEL" <<'PY'
+import csv, json, sys
+threads_csv, summary_json, label = sys.argv[1:4]
+live = [int(r["jvm.threads.live"]) for r in csv.DictReader(open(threads_csv)) if r["jvm.threads.live"]]
+summary = json.load(open(summary_json))["metrics"]
+duration = summary["http_req_duration"]
+failed = summary["http_req_failed"]
+print()
+print(f"[{label}] max jvm.threads.live = {max(live) if live else 'n/a'}")
+print(f"[{label}] http_req_duration p99 = {duration['p(99)']:.0f} ms, p95 = {duration['p(95)']:.0f} ms")
+print(f"[{label}] throughput = {summary['http_reqs']['rate']:.1f} req/s, error rate = {failed['value'] * 100:.2f}%")
+PY
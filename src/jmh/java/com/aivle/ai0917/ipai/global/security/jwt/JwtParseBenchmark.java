@@ -0,0 +1,64 @@
+package com.aivle.ai0917.ipai.global.security.jwt;
+
+import com.aivle.ai0917.ipai.domain.admin.access.model.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * JwtAuthFilter 토큰 검증 비용 비교 (요청 1건당 1회 호출)
+ * - parseWithNewParser: 기존 방식, 요청마다 파서 생성 + HMAC 검증 + 클레임 JSON 파싱
+ * - parseWithSharedParser: 미리 만든 파서 재사용
+ * - verifyCached: 검증된 토큰 캐시 적중 (SHA-256 해시 + 캐시 조회만)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey key;
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setAccessTokenExpMinutes(60);
+
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtProvider = new JwtProvider(props);
+        verifiedTokenCache = new VerifiedTokenCache(jwtProvider, 10_000, Duration.ofMinutes(10));
+        token = jwtProvider.createAccessToken(1L, UserRole.Author);
+
+        // 캐시 적중 경로만 측정하도록 미리 한 번 검증
+        verifiedTokenCache.verify(token);
+    }
+
+    @Benchmark
+    public Claims parseWithNewParser() {
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public Claims parseWithSharedParser() {
+        return jwtProvider.parse(token);
+    }
+
+    @Benchmark
+    public VerifiedTokenCache.VerifiedToken verifyCached() {
+        return verifiedTokenCache.verify(token);
+    }
+}
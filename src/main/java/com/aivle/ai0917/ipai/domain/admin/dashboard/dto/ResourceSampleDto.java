@@ -0,0 +1,22 @@
+package com.aivle.ai0917.ipai.domain.admin.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 리소스 사용량 실시간 차트 샘플 (5초 간격)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceSampleDto {
+    private LocalDateTime timestamp;
+    private Double cpuUsage; // 0-100 (%)
+    private Double memoryUsage; // 0-100 (%)
+    private Double storageUsage; // 0-100 (%)
+    private Integer threadCount;
+    private Long gcTimeMs; // 직전 샘플 이후 GC 시간
+}
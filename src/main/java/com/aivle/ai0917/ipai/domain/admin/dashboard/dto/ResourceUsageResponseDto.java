@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 // 리소스 사용량
 @Data
@@ -18,4 +19,7 @@ public class ResourceUsageResponseDto {
     private Double memoryUsage; // 0-100 (%)
     private Double storageUsage; // 0-100 (%)
     private LocalDateTime timestamp;
+    private Integer threadCount;
+    private Long gcTimeMs; // 직전 샘플 이후 GC 시간
+    private List<ResourceSampleDto> samples; // 최근 chart-window 동안의 샘플 (오래된 순)
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.aivle.ai0917.ipai.domain.admin.dashboard.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시스템 리소스 샘플 링 버퍼 (인스턴스 메모리, 최근 buffer-size개)
+ * - 값은 필드별 기본형 배열에 저장 (샘플마다 객체를 만들지 않음)
+ * - 쓰기는 샘플링 스레드 하나만, 읽기는 여러 스레드에서 잠금 없이 한다.
+ *   쓰기: 슬롯 값 기록 -> head 증가(발행), 읽기: head 확인 -> 복사 -> head 재확인 후 그 사이 덮어써졌을 수 있는 슬롯은 버림
+ */
+@Component
+public class SystemMetricsBuffer {
+
+    /**
+     * 샘플 1건 (조회 결과용 복사본)
+     * - gcTimeMs: 직전 샘플 이후 GC에 쓴 시간
+     */
+    public record Sample(long timestampMillis, double cpuUsage, double memoryUsage, double storageUsage,
+                         int threadCount, long gcTimeMs) {}
+
+    private final int capacity;
+    private final long[] timestamps;
+    private final double[] cpu;
+    private final double[] memory;
+    private final double[] storage;
+    private final int[] threads;
+    private final long[] gcTime;
+
+    // 지금까지 기록한 샘플 수 (다음에 쓸 순번), 슬롯 = 순번 % capacity
+    private final AtomicLong head = new AtomicLong();
+
+    public SystemMetricsBuffer(@Value("${system-metrics.buffer-size:720}") int capacity) {
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.cpu = new double[capacity];
+        this.memory = new double[capacity];
+        this.storage = new double[capacity];
+        this.threads = new int[capacity];
+        this.gcTime = new long[capacity];
+    }
+
+    /**
+     * 샘플 기록 (샘플링 스레드 하나에서만 호출)
+     */
+    public void record(long timestampMillis, double cpuUsage, double memoryUsage, double storageUsage,
+                       int threadCount, long gcTimeMs) {
+        long seq = head.get();
+        int slot = (int) (seq % capacity);
+
+        timestamps[slot] = timestampMillis;
+        cpu[slot] = cpuUsage;
+        memory[slot] = memoryUsage;
+        storage[slot] = storageUsage;
+        threads[slot] = threadCount;
+        gcTime[slot] = gcTimeMs;
+
+        // volatile 쓰기 -> 위 값들이 head를 읽은 스레드에 보임
+        head.set(seq + 1);
+    }
+
+    public Optional<Sample> latest() {
+        List<Sample> samples = readFrom(head.get() - 1);
+        return samples.isEmpty() ? Optional.empty() : Optional.of(samples.get(samples.size() - 1));
+    }
+
+    /**
+     * sinceMillis 이후 샘플 (오래된 순)
+     */
+    public List<Sample> since(long sinceMillis) {
+        List<Sample> samples = readFrom(head.get() - capacity);
+        int from = 0;
+        while (from < samples.size() && samples.get(from).timestampMillis() <= sinceMillis) {
+            from++;
+        }
+        return samples.subList(from, samples.size());
+    }
+
+    /**
+     * fromSeq 순번부터 최신까지 복사 (이미 덮어써진 순번은 건너뜀)
+     */
+    private List<Sample> readFrom(long fromSeq) {
+        long end = head.get();
+        long start = Math.max(Math.max(fromSeq, 0), end - capacity);
+
+        List<Sample> copied = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            int slot = (int) (seq % capacity);
+            copied.add(new Sample(timestamps[slot], cpu[slot], memory[slot], storage[slot], threads[slot], gcTime[slot]));
+        }
+
+        // 복사하는 동안 쓰기 스레드가 돌아와서 덮어썼을 수 있는 슬롯(진행 중인 쓰기 포함)은 버림
+        // (배열 읽기가 head 재확인 뒤로 밀리지 않도록 펜스)
+        VarHandle.loadLoadFence();
+        long firstValid = head.get() + 1 - capacity;
+        int skip = (int) Math.max(0, Math.min(copied.size(), firstValid - start));
+        return skip == 0 ? copied : copied.subList(skip, copied.size());
+    }
+}
@@ -29,6 +29,19 @@ public class SystemMetric {
     @Column(nullable = false)
     private Double storageUsage;
 
+    // 5분 요약 추가 항목 (이전 행은 null)
+    private Double peakCpuUsage;
+
+    private Double peakMemoryUsage;
+
+    private Double avgThreadCount;
+
+    // 요약 구간 동안 GC에 쓴 시간 합계
+    private Long gcTimeMs;
+
+    // 요약에 사용한 샘플 수
+    private Integer sampleCount;
+
     @Column(nullable = false)
     private LocalDateTime timestamp;
 }
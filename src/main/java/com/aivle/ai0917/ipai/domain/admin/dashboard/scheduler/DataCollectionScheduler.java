@@ -1,5 +1,7 @@
 package com.aivle.ai0917.ipai.domain.admin.dashboard.scheduler;
 
+import com.aivle.ai0917.ipai.domain.admin.dashboard.metrics.SystemMetricsBuffer;
+import com.aivle.ai0917.ipai.domain.admin.dashboard.metrics.SystemMetricsBuffer.Sample;
 import com.aivle.ai0917.ipai.domain.admin.dashboard.model.DailyActiveUser;
 import com.aivle.ai0917.ipai.domain.admin.dashboard.model.SystemLog;
 import com.aivle.ai0917.ipai.domain.admin.dashboard.model.SystemMetric;
@@ -12,21 +14,34 @@ import com.aivle.ai0917.ipai.domain.admin.info.service.AdminNoticeService;
 import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.management.OperatingSystemMXBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.time.*;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 대시보드 데이터 자동 수집 스케줄러
- * - 리소스 사용량: 5분마다
+ * - 리소스 사용량: 5초마다 샘플링해서 메모리 링 버퍼(SystemMetricsBuffer)에 기록 (대시보드 실시간 차트용)
+ *   샘플링은 전용 스레드에서 (기본 스케줄러 스레드 1개를 다른 @Scheduled 작업들과 나눠 쓰면 긴 작업 뒤로 밀려 간격이 틀어짐)
+ *   5분마다 버퍼의 샘플을 평균/최대값 1건으로 묶어 임계치 확인, persist-batch-size건 모이면 DB에 한 번에 저장
  * - DAU: 매일 자정
  */
 @Slf4j
@@ -40,39 +55,112 @@ public class DataCollectionScheduler {
     private final SystemLogRepository systemLogRepository;
     private final AdminNoticeService adminNoticeService;
     private final ObjectMapper objectMapper;
+    private final SystemMetricsBuffer metricsBuffer;
 
-    // 샘플링 간격 (5초)
-    private static final long SAMPLING_INTERVAL_MS = 5000;
+    private final OperatingSystemMXBean osBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    // DB 저장 전 요약 데이터 최대 보관 수 (DB 장애가 길어져도 메모리가 계속 늘지 않도록, 1일치)
+    private static final int MAX_PENDING_ROLLUPS = 288;
+
+    @Value("${system-metrics.persist-batch-size:3}")
+    private int persistBatchSize;
+
+    @Value("${system-metrics.sample-interval-ms:5000}")
+    private long sampleIntervalMs;
+
+    private final ScheduledExecutorService sampler =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("metrics-sampler-"));
+
+    // 샘플링 스레드에서만 접근
+    private long lastGcTimeMs = -1;
+
+    // 요약 스케줄 스레드 / 종료 시에만 접근 (this로 동기화)
+    private long lastRollupAt = System.currentTimeMillis();
+    private final List<SystemMetric> pendingRollups = new ArrayList<>();
+
+    @PostConstruct
+    public void startSampling() {
+        sampler.scheduleAtFixedRate(this::sampleSystemMetrics, 1000, sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
 
     /**
-     * 시스템 리소스 메트릭 수집 (5분마다)
-     * - 5초 간격 샘플링으로 평균 측정
-     * - 메트릭 수집 및 저장
-     * - 임계치 초과 시 SystemLog에 저장 (기존 로직 유지)
-     * - 임계치 초과 시 실시간 SSE 알림 전송 (신규)
+     * 시스템 리소스 샘플링 (기본 5초마다, 전용 스레드)
+     * - MXBean 조회만 하므로 스레드를 붙잡지 않음 (기존: 5초 sleep)
      */
-    @Scheduled(cron = "0 */5 * * * *")
-    public void collectSystemMetrics() {
+    public void sampleSystemMetrics() {
         try {
-            log.info("Collecting system metrics with 5-second sampling...");
-
-            // 5초 샘플링으로 평균 측정
-            OperatingSystemMXBean osBean = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
             Runtime runtime = Runtime.getRuntime();
 
-            // 첫 번째 측정
-            MetricSample startSample = measureMetrics(osBean, runtime);
-
-            // 5초 대기
-            Thread.sleep(SAMPLING_INTERVAL_MS);
+            // CPU 사용률
+            double cpuUsage = osBean.getCpuLoad() * 100.0;
+            if (cpuUsage < 0) {
+                cpuUsage = osBean.getProcessCpuLoad() * 100.0;
+            }
+            if (cpuUsage < 0) cpuUsage = 0.0;
+
+            // 메모리 사용률
+            long totalMemory = runtime.totalMemory();
+            long freeMemory = runtime.freeMemory();
+            double memoryUsage = ((double)(totalMemory - freeMemory) / totalMemory) * 100.0;
+
+            // 스토리지 사용률
+            File root = new File("/");
+            long totalSpace = root.getTotalSpace();
+            long freeSpace = root.getFreeSpace();
+            double storageUsage = totalSpace > 0
+                    ? ((double)(totalSpace - freeSpace) / totalSpace) * 100.0
+                    : 0.0;
+
+            // 직전 샘플 이후 GC 시간
+            long gcTotal = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                long time = gc.getCollectionTime();
+                if (time > 0) gcTotal += time;
+            }
+            long gcDelta = lastGcTimeMs < 0 ? 0 : Math.max(0, gcTotal - lastGcTimeMs);
+            lastGcTimeMs = gcTotal;
 
-            // 두 번째 측정
-            MetricSample endSample = measureMetrics(osBean, runtime);
+            metricsBuffer.record(System.currentTimeMillis(), cpuUsage, memoryUsage, storageUsage,
+                    threadBean.getThreadCount(), gcDelta);
+        } catch (Exception e) {
+            log.error("Failed to sample system metrics", e);
+        }
+    }
 
-            // 평균 계산
-            double cpuUsage = (startSample.cpuUsage + endSample.cpuUsage) / 2.0;
-            double memoryUsage = (startSample.memoryUsage + endSample.memoryUsage) / 2.0;
-            double storageUsage = (startSample.storageUsage + endSample.storageUsage) / 2.0;
+    /**
+     * 시스템 리소스 요약 (5분마다)
+     * - 직전 요약 이후 샘플의 평균/최대값 계산
+     * - 임계치 초과 시 SystemLog에 저장 (기존 로직 유지)
+     * - 임계치 초과 시 실시간 SSE 알림 전송
+     * - 요약이 persist-batch-size건 모이면 DB에 한 번에 저장
+     */
+    @Scheduled(cron = "0 */5 * * * *")
+    public synchronized void collectSystemMetrics() {
+        try {
+            List<Sample> samples = metricsBuffer.since(lastRollupAt);
+            if (samples.isEmpty()) {
+                log.warn("No system metric samples since last rollup");
+                return;
+            }
+            lastRollupAt = samples.get(samples.size() - 1).timestampMillis();
+
+            double cpuSum = 0, memorySum = 0, storageSum = 0, threadSum = 0;
+            double cpuPeak = 0, memoryPeak = 0;
+            long gcTimeMs = 0;
+            for (Sample sample : samples) {
+                cpuSum += sample.cpuUsage();
+                memorySum += sample.memoryUsage();
+                storageSum += sample.storageUsage();
+                threadSum += sample.threadCount();
+                cpuPeak = Math.max(cpuPeak, sample.cpuUsage());
+                memoryPeak = Math.max(memoryPeak, sample.memoryUsage());
+                gcTimeMs += sample.gcTimeMs();
+            }
+            int count = samples.size();
+            double cpuUsage = cpuSum / count;
+            double memoryUsage = memorySum / count;
+            double storageUsage = storageSum / count;
 
             // 임계치 체크 (예: 90% 이상일 때 에러 로그 생성)
             if (cpuUsage > 90.0 || memoryUsage > 90.0 || storageUsage > 90.0) {
@@ -94,7 +182,7 @@ public class DataCollectionScheduler {
                 // 2. 메타데이터 생성
                 String metadata = buildMetadata(cpuUsage, memoryUsage, storageUsage);
 
-                // 3. 실시간 알림 전송 (신규 - admin_notices에도 저장됨)
+                // 3. 실시간 알림 전송 (admin_notices에도 저장됨)
                 try {
                     adminNoticeService.sendSystemMetricAlert(
                             "RESOURCE_CRITICAL",
@@ -107,52 +195,58 @@ public class DataCollectionScheduler {
                 }
             }
 
-            // 메트릭 저장 (기존 로직 유지)
             SystemMetric metric = SystemMetric.builder()
-                    .cpuUsage(Math.round(cpuUsage * 100.0) / 100.0)
-                    .memoryUsage(Math.round(memoryUsage * 100.0) / 100.0)
-                    .storageUsage(Math.round(storageUsage * 100.0) / 100.0)
+                    .cpuUsage(round(cpuUsage))
+                    .memoryUsage(round(memoryUsage))
+                    .storageUsage(round(storageUsage))
+                    .peakCpuUsage(round(cpuPeak))
+                    .peakMemoryUsage(round(memoryPeak))
+                    .avgThreadCount(round(threadSum / count))
+                    .gcTimeMs(gcTimeMs)
+                    .sampleCount(count)
                     .timestamp(LocalDateTime.now())
                     .build();
 
-            systemMetricRepository.save(metric);
-            log.info("System metrics saved: CPU={}%, Memory={}%, Storage={}%",
-                    metric.getCpuUsage(), metric.getMemoryUsage(), metric.getStorageUsage());
+            pendingRollups.add(metric);
+            log.debug("System metrics rolled up: samples={}, CPU={}%, Memory={}%, Storage={}%",
+                    count, metric.getCpuUsage(), metric.getMemoryUsage(), metric.getStorageUsage());
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Sampling interrupted", e);
+            if (pendingRollups.size() >= persistBatchSize) {
+                persistPendingRollups();
+            }
         } catch (Exception e) {
             log.error("Failed to collect system metrics", e);
         }
     }
 
     /**
-     * 현재 시스템 메트릭 측정
+     * 모아둔 요약 데이터 일괄 저장 (실패하면 다음 주기에 다시 시도)
      */
-    private MetricSample measureMetrics(OperatingSystemMXBean osBean, Runtime runtime) {
-        // CPU 사용률
-        double cpuUsage = osBean.getSystemCpuLoad() * 100.0;
-        if (cpuUsage < 0) {
-            cpuUsage = osBean.getProcessCpuLoad() * 100.0;
+    private void persistPendingRollups() {
+        try {
+            systemMetricRepository.saveAll(pendingRollups);
+            log.info("System metric rollups saved: {}", pendingRollups.size());
+            pendingRollups.clear();
+        } catch (Exception e) {
+            log.error("Failed to save system metric rollups (pending={})", pendingRollups.size(), e);
+            while (pendingRollups.size() > MAX_PENDING_ROLLUPS) {
+                pendingRollups.remove(0);
+            }
         }
-        if (cpuUsage < 0) cpuUsage = 0.0;
-
-        // 메모리 사용률
-        long totalMemory = runtime.totalMemory();
-        long freeMemory = runtime.freeMemory();
-        double memoryUsage = ((double)(totalMemory - freeMemory) / totalMemory) * 100.0;
-
-        // 스토리지 사용률
-        File root = new File("/");
-        long totalSpace = root.getTotalSpace();
-        long freeSpace = root.getFreeSpace();
-        double storageUsage = totalSpace > 0
-                ? ((double)(totalSpace - freeSpace) / totalSpace) * 100.0
-                : 0.0;
-
-        return new MetricSample(cpuUsage, memoryUsage, storageUsage);
     }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        sampler.shutdownNow();
+        if (!pendingRollups.isEmpty()) {
+            persistPendingRollups();
+        }
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
     /**
      * 메타데이터 JSON 생성
      */
@@ -220,28 +314,4 @@ public class DataCollectionScheduler {
             log.error("Failed to aggregate DAU", e);
         }
     }
-
-    /**
-     * 애플리케이션 시작 시 초기 메트릭 수집
-     */
-    @Scheduled(initialDelay = 10000, fixedDelay = Long.MAX_VALUE)
-    public void collectInitialMetrics() {
-        log.info("Collecting initial system metrics on startup...");
-        collectSystemMetrics();
-    }
-
-    /**
-     * 메트릭 샘플 내부 클래스
-     */
-    private static class MetricSample {
-        double cpuUsage;
-        double memoryUsage;
-        double storageUsage;
-
-        MetricSample(double cpu, double memory, double storage) {
-            this.cpuUsage = cpu;
-            this.memoryUsage = memory;
-            this.storageUsage = storage;
-        }
-    }
-}
\ No newline at end of file
+}
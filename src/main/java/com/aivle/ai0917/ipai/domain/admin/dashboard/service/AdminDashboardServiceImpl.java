@@ -1,11 +1,14 @@
 package com.aivle.ai0917.ipai.domain.admin.dashboard.service;
 
 import com.aivle.ai0917.ipai.domain.admin.dashboard.dto.*;
+import com.aivle.ai0917.ipai.domain.admin.dashboard.metrics.SystemMetricsBuffer;
+import com.aivle.ai0917.ipai.domain.admin.dashboard.metrics.SystemMetricsBuffer.Sample;
 import com.aivle.ai0917.ipai.domain.admin.dashboard.model.*;
 import com.aivle.ai0917.ipai.domain.admin.dashboard.repository.*;
 import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +17,8 @@ import org.springframework.data.domain.Pageable;
 import java.lang.management.ManagementFactory;
 import java.lang.management.OperatingSystemMXBean;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime; // LocalDateTime 임포트 유지
@@ -33,6 +38,11 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
     private final UserRepository userRepository;
     private final ArtworkRepository artworkRepository;
     private final LorebookRepository lorebookRepository;
+    private final SystemMetricsBuffer metricsBuffer;
+
+    // 실시간 차트에 내려주는 샘플 구간
+    @Value("${system-metrics.chart-window:15m}")
+    private Duration chartWindow;
 
     @Override
     public DashboardPageResponseDto getDashboardPage() {
@@ -101,6 +111,26 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
 
     @Override
     public ResourceUsageResponseDto getResourceUsage() {
+        // 메모리 링 버퍼의 최신 샘플 + 최근 구간 차트 데이터 (DB 조회 없음)
+        Sample latest = metricsBuffer.latest().orElse(null);
+        if (latest != null) {
+            List<ResourceSampleDto> samples = metricsBuffer
+                    .since(System.currentTimeMillis() - chartWindow.toMillis()).stream()
+                    .map(this::toSampleDto)
+                    .collect(Collectors.toList());
+
+            return ResourceUsageResponseDto.builder()
+                    .cpuUsage(round(latest.cpuUsage()))
+                    .memoryUsage(round(latest.memoryUsage()))
+                    .storageUsage(round(latest.storageUsage()))
+                    .timestamp(toLocalDateTime(latest.timestampMillis()))
+                    .threadCount(latest.threadCount())
+                    .gcTimeMs(latest.gcTimeMs())
+                    .samples(samples)
+                    .build();
+        }
+
+        // 기동 직후 아직 샘플이 없으면 기존처럼 DB 최신값
         SystemMetric latestMetric = systemMetricRepository.findTopByOrderByTimestampDesc()
                 .orElse(null);
 
@@ -159,19 +189,31 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
 
     private ServerStatusDto checkServerStatus() {
         try {
-            SystemMetric latestMetric = systemMetricRepository
-                    .findTopByOrderByTimestampDesc()
-                    .orElse(null);
-
-            if (latestMetric == null) {
-                return ServerStatusDto.builder().status("warning").message("No metrics available").build();
+            // 최신 샘플(메모리) 우선, 없으면 DB 최신값
+            double cpu, memory, storage;
+            Sample latest = metricsBuffer.latest().orElse(null);
+            if (latest != null) {
+                cpu = latest.cpuUsage();
+                memory = latest.memoryUsage();
+                storage = latest.storageUsage();
+            } else {
+                SystemMetric latestMetric = systemMetricRepository
+                        .findTopByOrderByTimestampDesc()
+                        .orElse(null);
+
+                if (latestMetric == null) {
+                    return ServerStatusDto.builder().status("warning").message("No metrics available").build();
+                }
+                cpu = latestMetric.getCpuUsage();
+                memory = latestMetric.getMemoryUsage();
+                storage = latestMetric.getStorageUsage();
             }
 
-            if (latestMetric.getCpuUsage() >= 90 || latestMetric.getMemoryUsage() >= 90 || latestMetric.getStorageUsage() >= 90) {
+            if (cpu >= 90 || memory >= 90 || storage >= 90) {
                 return ServerStatusDto.builder().status("critical").message("High resource usage detected").build();
             }
 
-            if (latestMetric.getCpuUsage() >= 70 || latestMetric.getMemoryUsage() >= 70 || latestMetric.getStorageUsage() >= 70) {
+            if (cpu >= 70 || memory >= 70 || storage >= 70) {
                 return ServerStatusDto.builder().status("warning").message("Resource usage above normal").build();
             }
 
@@ -209,6 +251,25 @@ public class AdminDashboardServiceImpl implements AdminDashboardService {
         }
     }
 
+    private ResourceSampleDto toSampleDto(Sample sample) {
+        return ResourceSampleDto.builder()
+                .timestamp(toLocalDateTime(sample.timestampMillis()))
+                .cpuUsage(round(sample.cpuUsage()))
+                .memoryUsage(round(sample.memoryUsage()))
+                .storageUsage(round(sample.storageUsage()))
+                .threadCount(sample.threadCount())
+                .gcTimeMs(sample.gcTimeMs())
+                .build();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
     private DeploymentInfo createDefaultDeploymentInfo() {
         return DeploymentInfo.builder()
                 .version("v2.4.1")
@@ -9,16 +9,14 @@ import com.aivle.ai0917.ipai.domain.admin.info.dto.UnifiedAdminNoticeDto.NoticeS
 import com.aivle.ai0917.ipai.domain.admin.info.dto.UnifiedAdminNoticeDto.NoticeSeverity;
 import com.aivle.ai0917.ipai.domain.admin.info.model.AdminNotice;
 import com.aivle.ai0917.ipai.domain.admin.info.repository.AdminNoticeRepository;
+import com.aivle.ai0917.ipai.global.sse.SseHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -29,45 +27,19 @@ public class AdminNoticeServiceImpl implements AdminNoticeService {
     private final SystemLogRepository systemLogRepository;
     private final DeploymentInfoRepository deploymentInfoRepository;
 
-    // SSE 연결 관리
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private static final long SSE_TIMEOUT = 60 * 60 * 1000L; // 1시간
+    // SSE 연결 관리 (공통 허브, 전송은 허브 전용 스레드에서 수행)
+    private final SseHub sseHub;
+    private static final String SSE_CHANNEL = "admin";
 
     /**
      * SSE 구독 (관리자별)
      */
     @Override
     public SseEmitter subscribe(Long adminId) {
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        emitters.put(adminId, emitter);
-
-        emitter.onCompletion(() -> {
-            log.info("SSE completed for admin: {}", adminId);
-            emitters.remove(adminId);
-        });
-
-        emitter.onTimeout(() -> {
-            log.warn("SSE timeout for admin: {}", adminId);
-            emitters.remove(adminId);
-        });
-
-        emitter.onError((ex) -> {
-            log.error("SSE error for admin: {}", adminId, ex);
-            emitters.remove(adminId);
-        });
-
-        // 연결 성공 메시지 전송
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connected")
-                    .data("SSE 연결 성공"));
-        } catch (IOException e) {
-            log.error("Failed to send connection message", e);
-            emitters.remove(adminId);
-        }
+        SseEmitter emitter = sseHub.subscribe(SSE_CHANNEL, String.valueOf(adminId), "SSE 연결 성공");
 
         log.info("Admin {} subscribed to SSE notifications. Active connections: {}",
-                adminId, emitters.size());
+                adminId, sseHub.connectionCount(SSE_CHANNEL));
 
         return emitter;
     }
@@ -239,22 +211,11 @@ public class AdminNoticeServiceImpl implements AdminNoticeService {
      * SSE로 모든 연결된 관리자에게 브로드캐스트
      */
     private void broadcastToAllAdmins(UnifiedAdminNoticeDto dto) {
-        emitters.forEach((adminId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("admin-notice")
-                        .data(dto));
-
-                log.debug("Notification sent to admin: {}", adminId);
-
-            } catch (IOException e) {
-                log.error("Failed to send notification to admin: {}", adminId, e);
-                emitters.remove(adminId);
-            }
-        });
+        // 대기열에 넣기만 하고 바로 반환 (느린 클라이언트가 트랜잭션/스케줄러 스레드를 막지 않음)
+        sseHub.broadcast(SSE_CHANNEL, "admin-notice", dto);
 
         log.info("Broadcasted notification to {} admins. Source: {}, Category: {}",
-                emitters.size(), dto.getSource(), dto.getCategory());
+                sseHub.connectionCount(SSE_CHANNEL), dto.getSource(), dto.getCategory());
     }
 
     /**
@@ -1,13 +1,14 @@
 package com.aivle.ai0917.ipai.domain.author.analyze.client;
 
+import com.aivle.ai0917.ipai.global.ai.AiGateway;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -16,13 +17,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AiGraphClient {
 
-    private final WebClient aiWebClient;
+    private final AiGateway aiGateway;
 
     /**
      * 인물 관계도 분석 요청
      * POST /relationship
      */
-    public Object requestRelationshipAnalysis(Long workId, String userId, String target) {
+    public Mono<Object> requestRelationshipAnalysis(Long workId, String userId, String target) {
         RelationshipRequest request = RelationshipRequest.builder()
                 .workId(workId)
                 .userId(userId)
@@ -31,25 +32,18 @@ public class AiGraphClient {
 
         log.info("AI(Graph) 인물관계 요청: WorkId={}, Target={}", workId, target);
 
-        try {
-            return aiWebClient.post()
-                    .uri("/relationship")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Object.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("AI 인물관계 요청 실패: {}", e.getMessage());
-            throw new RuntimeException("인물관계 분석 실패");
-        }
+        return aiGateway.post("/relationship", request, Object.class)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("AI 인물관계 요청 실패: {}", e.getMessage());
+                    return new RuntimeException("인물관계 분석 실패");
+                });
     }
 
     /**
      * 사건 타임라인 분석 요청
      * POST /timeline
      */
-    public Object requestTimelineAnalysis(Long workId, String userId, List<Integer> target) {
+    public Mono<Object> requestTimelineAnalysis(Long workId, String userId, List<Integer> target) {
         TimelineRequest request = TimelineRequest.builder()
                 .workId(workId)
                 .userId(userId)
@@ -58,18 +52,11 @@ public class AiGraphClient {
 
         log.info("AI(Graph) 타임라인 요청: WorkId={}, TargetCount={}", workId, target.size());
 
-        try {
-            return aiWebClient.post()
-                    .uri("/timeline")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Object.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("AI 타임라인 요청 실패: {}", e.getMessage());
-            throw new RuntimeException("타임라인 분석 실패");
-        }
+        return aiGateway.post("/timeline", request, Object.class)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("AI 타임라인 요청 실패: {}", e.getMessage());
+                    return new RuntimeException("타임라인 분석 실패");
+                });
     }
 
     // --- DTO ---
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -24,19 +25,17 @@ public class AIAnalyzeController {
      * target이 빈 값("")으로 오면 Service에서 "*"로 변환하여 처리함
      */
     @PostMapping("/relationships")
-    public ResponseEntity<?> analyzeRelationships(
+    public Mono<ResponseEntity<Object>> analyzeRelationships(
             @PathVariable("workId") Long workId,
             @RequestBody AnalyzeRelationshipRequestDto requestDto) {
 
         log.info("Controller: 인물 관계 분석 요청 workId={}, userId={}", workId, requestDto.getUserId());
 
-        Object result = aiAnalyzeService.analyzeRelationship(
-                workId,
-                requestDto.getUserId(),
-                requestDto.getTarget()
-        );
-
-        return ResponseEntity.ok(result);
+        return aiAnalyzeService.analyzeRelationship(
+                        workId,
+                        requestDto.getUserId(),
+                        requestDto.getTarget())
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -60,18 +59,16 @@ public class AIAnalyzeController {
      * 3. 타임라인 분석 요청
      */
     @PostMapping("/timeline")
-    public ResponseEntity<?> analyzeTimeline(
+    public Mono<ResponseEntity<Object>> analyzeTimeline(
             @PathVariable("workId") Long workId,
             @RequestBody AnalyzeTimelineRequestDto requestDto) {
 
         log.info("Controller: 타임라인 분석 요청 workId={}, userId={}", workId, requestDto.getUserId());
 
-        Object result = aiAnalyzeService.analyzeTimeline(
-                workId,
-                requestDto.getUserId(),
-                requestDto.getTarget()
-        );
-
-        return ResponseEntity.ok(result);
+        return aiAnalyzeService.analyzeTimeline(
+                        workId,
+                        requestDto.getUserId(),
+                        requestDto.getTarget())
+                .map(ResponseEntity::ok);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.aivle.ai0917.ipai.domain.author.analyze.service;
 
 import com.aivle.ai0917.ipai.domain.author.analyze.dto.EpisodeBriefDto;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -9,12 +10,12 @@ public interface AiAnalyzeService {
     /**
      * 인물 관계 분석
      */
-    Object analyzeRelationship(Long workId, String userId, String target);
+    Mono<Object> analyzeRelationship(Long workId, String userId, String target);
 
     /**
      * 타임라인 분석
      */
-    Object analyzeTimeline(Long workId, String userId, List<Integer> targetList);
+    Mono<Object> analyzeTimeline(Long workId, String userId, List<Integer> targetList);
 
     List<EpisodeBriefDto> getTimelineEpisodes(Long workId);
 }
\ No newline at end of file
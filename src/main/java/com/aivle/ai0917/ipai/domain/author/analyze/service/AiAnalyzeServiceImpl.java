@@ -8,6 +8,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,7 +22,7 @@ public class AiAnalyzeServiceImpl implements AiAnalyzeService {
     private final ManuscriptViewRepository manuscriptViewRepository;
 
     @Override
-    public Object analyzeRelationship(Long workId, String userId, String target) {
+    public Mono<Object> analyzeRelationship(Long workId, String userId, String target) {
         // [로직 추가] target이 null이거나 공백이면 전체('*')로 설정
         String safeTarget = (target == null || target.trim().isEmpty()) ? "*" : target;
 
@@ -32,7 +33,7 @@ public class AiAnalyzeServiceImpl implements AiAnalyzeService {
     }
 
     @Override
-    public Object analyzeTimeline(Long workId, String userId, List<Integer> targetList) {
+    public Mono<Object> analyzeTimeline(Long workId, String userId, List<Integer> targetList) {
         log.info("ServiceImpl: 타임라인 분석 실행 workId={}, userId={}, targetSize={}",
                 workId, userId, (targetList != null ? targetList.size() : 0));
         return aiGraphClient.requestTimelineAnalysis(workId, userId, targetList);
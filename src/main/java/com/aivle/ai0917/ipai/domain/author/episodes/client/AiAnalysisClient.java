@@ -1,14 +1,15 @@
 package com.aivle.ai0917.ipai.domain.author.episodes.client;
 
+import com.aivle.ai0917.ipai.global.ai.AiGateway;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -18,50 +19,38 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AiAnalysisClient {
 
-    private final WebClient aiWebClient;
+    private final AiGateway aiGateway;
 
     /**
      * 카테고리 추출 요청 (AI)
      */
-    public CategoryExtractionResponse extractCategories(Long episodeId, CategoryExtractionRequest request) {
+    public Mono<CategoryExtractionResponse> extractCategories(Long episodeId, CategoryExtractionRequest request) {
         log.info("AI 서버로 카테고리 추출 요청: EpisodeId={}, WorkId={}, Ep={}",
                 episodeId, request.getWorkId(), request.getEpNum());
-        try {
-            CategoryExtractionResponse response = aiWebClient.post()
-                    .uri("/categories")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(CategoryExtractionResponse.class)
-                    .block();
-            log.info("카테고리 추출 완료");
-            return response;
-        } catch (Exception e) {
-            log.error("카테고리 추출 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("카테고리 추출 실패: " + e.getMessage());
-        }
+
+        return aiGateway.post("/categories", request, CategoryExtractionResponse.class)
+                .doOnSuccess(response -> log.info("카테고리 추출 완료"))
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("카테고리 추출 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("카테고리 추출 실패: " + e.getMessage());
+                });
     }
 
     /**
      * 설정집 충돌 검토 요청 (AI)
      */
-    public SettingConflictResponse checkSettingConflict(Long workId, SettingConflictRequest request) {
+    public Mono<SettingConflictResponse> checkSettingConflict(Long workId, SettingConflictRequest request) {
         log.info("AI 서버로 설정집 충돌 검토 요청: WorkId={}, UserId={}", workId, request.getUserId());
-        try {
-            SettingConflictResponse response = aiWebClient.post()
-                    .uri("/setting")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(SettingConflictResponse.class)
-                    .block();
-            log.info("설정집 충돌 검토 완료");
-            log.info("AI 서버 응답 (RAW): {}", response);  // 실제 JSON 확인
-            return response;
-        } catch (Exception e) {
-            log.error("설정집 충돌 검토 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("설정집 충돌 검토 실패: " + e.getMessage());
-        }
+
+        return aiGateway.post("/setting", request, SettingConflictResponse.class)
+                .doOnSuccess(response -> {
+                    log.info("설정집 충돌 검토 완료");
+                    log.info("AI 서버 응답 (RAW): {}", response);  // 실제 JSON 확인
+                })
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("설정집 충돌 검토 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("설정집 충돌 검토 실패: " + e.getMessage());
+                });
     }
 
     // ===== DTO 정의 =====
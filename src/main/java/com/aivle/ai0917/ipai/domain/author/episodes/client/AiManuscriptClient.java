@@ -1,5 +1,7 @@
 package com.aivle.ai0917.ipai.domain.author.episodes.client;
 
+import com.aivle.ai0917.ipai.global.ai.AiGateway;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -7,22 +9,31 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AiManuscriptClient {
 
-    private final WebClient aiWebClient;
+    private final AiGateway aiGateway;
     private final ObjectMapper objectMapper; // [추가] JSON 파싱을 위한 도구
+    private final ManuscriptTextCache manuscriptTextCache;
 
     /**
      * AI 서버로 원문 저장 (Storage1 원문 저장)
      */
-    public String saveNovelToAi(Long episodeId, String userId, Long workId, Integer epNum, String txt) {
+    public Mono<String> saveNovelToAi(Long episodeId, String userId, Long workId, Integer epNum, String txt) {
         AiNovelSaveRequest request = AiNovelSaveRequest.builder()
                 .userId(userId)
                 .workId(workId)
@@ -32,78 +43,113 @@ public class AiManuscriptClient {
 
         log.info("AI 서버로 원문 저장 요청: EpisodeId={}, WorkId={}, Ep={}", episodeId, workId, epNum);
 
-        try {
-            // 저장 응답은 보통 경로만 오거나 간단한 JSON이므로 String으로 받아도 무방하지만,
-            // 필요하다면 여기서도 파싱할 수 있습니다. 현재는 유지합니다.
-            String response = aiWebClient.post()
-                    .uri("/novel_save")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            log.info("AI 서버 원문 저장 완료: {}", response);
-            return response;
-
-        } catch (Exception e) {
-            log.error("AI 서버 원문 저장 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("원문 저장 실패: " + e.getMessage());
-        }
+        // 저장 응답은 보통 경로만 오거나 간단한 JSON이므로 String으로 받아도 무방하지만,
+        // 필요하다면 여기서도 파싱할 수 있습니다. 현재는 유지합니다.
+        return aiGateway.post("/novel_save", request, String.class)
+                // 저장 전/후 모두 무효화 (세대 번호 증가): 저장 전후에 걸친 읽기가 이전 원문을 다시 채워 넣는 경우 방지
+                .doOnSubscribe(s -> manuscriptTextCache.invalidate(userId, workId, epNum))
+                .doFinally(signal -> manuscriptTextCache.invalidate(userId, workId, epNum))
+                .doOnSuccess(response -> log.info("AI 서버 원문 저장 완료: {}", response))
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("AI 서버 원문 저장 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("원문 저장 실패: " + e.getMessage());
+                });
     }
 
     /**
      * AI 서버에서 원문 읽기 (Storage1 원문 읽기)
      * [핵심 수정] 받아온 데이터가 JSON이라면 파싱해서 '순수 텍스트'만 반환
+     * [추가] 캐시에 있으면 AI 서버를 호출하지 않고 바로 반환 (read-through)
      */
-    public String readNovelFromAi(String userId, Long workId, Integer epNum) {
+    public Mono<String> readNovelFromAi(String userId, Long workId, Integer epNum) {
+        String cached = manuscriptTextCache.get(userId, workId, epNum);
+        if (cached != null) {
+            log.debug("원문 캐시 적중: WorkId={}, Ep={}", workId, epNum);
+            return Mono.just(cached);
+        }
+
         log.info("AI 서버에서 원문 읽기 요청: WorkId={}, Ep={}", workId, epNum);
 
-        try {
-            // 1. 응답을 String으로 받음 (이때 "{\"txt\": \"내용\"}" 형태일 수 있음)
-            String responseBody = aiWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/novel_read")
-                            .queryParam("user_id", userId)
-                            .queryParam("work_id", workId)
-                            .queryParam("ep_num", epNum)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            // 2. JSON 파싱 시도 (포장지 벗기기)
-            if (responseBody != null) {
-                try {
-                    JsonNode rootNode = objectMapper.readTree(responseBody);
-
-                    // Case A: {"txt": "..."} 또는 {"text": "..."} 형태인 경우
-                    if (rootNode.has("txt")) {
-                        return rootNode.get("txt").asText();
-                    } else if (rootNode.has("text")) {
-                        return rootNode.get("text").asText();
-                    }
-                    // Case B: 단순히 "내용..." 형태의 JSON 문자열인 경우
-                    else if (rootNode.isTextual()) {
-                        return rootNode.asText();
-                    }
-                    // Case C: JSON 객체도 아니고 따옴표로 감싸진 문자열도 아닌 경우 (그냥 평문)
-                    else {
-                        // rootNode.toString()을 하면 따옴표가 다시 붙을 수 있으니 responseBody 반환 고려
-                        // 하지만 일반적인 텍스트라면 asText()가 안전함
-                        return rootNode.asText();
-                    }
-                } catch (Exception e) {
-                    // JSON이 아니라 진짜 평문(Plain Text)이어서 파싱 에러가 났다면 원본 그대로 반환
-                    return responseBody;
-                }
-            }
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("user_id", userId);
+        params.put("work_id", workId);
+        params.put("ep_num", epNum);
+
+        // 1. 응답을 String으로 받음 (이때 "{\"txt\": \"내용\"}" 형태일 수 있음)
+        // - 요청 시점의 캐시 세대를 받아두고, 응답이 올 때까지 저장(무효화)이 없었을 때만 캐시에 넣음
+        return Mono.defer(() -> {
+                    long generation = manuscriptTextCache.currentGeneration();
+                    return aiGateway.get("/novel_read", params, MediaType.ALL, String.class)
+                            .map(this::unwrapNovelText)
+                            .doOnNext(txt -> manuscriptTextCache.put(userId, workId, epNum, txt, generation));
+                })
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("AI 서버 원문 읽기 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("원문 읽기 실패: " + e.getMessage());
+                });
+    }
 
-            return responseBody;
+    /**
+     * [추가] AI 서버 원문을 응답 본문을 모으지 않고 바로 out으로 흘려보낸다.
+     * - readNovelFromAi는 String -> JsonNode -> String으로 원문 사본이 여러 개 생기므로,
+     *   긴 회차를 화면에 그대로 내려줄 때는 이 경로를 사용한다.
+     * - 캐시에 있으면 캐시 내용을 쓰고, 스트리밍으로 읽은 원문은 캐시에 적재하지 않는다.
+     * - 호출 스레드를 블로킹하므로 요청 스레드가 아닌 StreamingResponseBody 등에서 호출해야 한다.
+     */
+    public void streamNovelFromAi(String userId, Long workId, Integer epNum, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        String cached = manuscriptTextCache.get(userId, workId, epNum);
+        if (cached != null) {
+            log.debug("원문 캐시 적중(스트리밍): WorkId={}, Ep={}", workId, epNum);
+            writer.write(cached);
+            writer.flush();
+            return;
+        }
+
+        log.info("AI 서버에서 원문 스트리밍 읽기 요청: WorkId={}, Ep={}", workId, epNum);
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("user_id", userId);
+        params.put("work_id", workId);
+        params.put("ep_num", epNum);
+
+        Flux<DataBuffer> body = aiGateway.stream("/novel_read", params, MediaType.ALL);
+
+        // 소량씩 요청(backpressure)하면서 읽은 DataBuffer는 InputStream 쪽에서 해제
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, 4)) {
+            NovelTextExtractor.extract(in, writer, objectMapper.getFactory());
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            log.error("AI 서버 원문 스트리밍 읽기 실패: WorkId={}, Ep={}, error={}", workId, epNum, e.getMessage());
+            throw e;
+        }
+    }
 
+    // 2. JSON 파싱 시도 (포장지 벗기기)
+    private String unwrapNovelText(String responseBody) {
+        try {
+            JsonNode rootNode = objectMapper.readTree(responseBody);
+
+            // Case A: {"txt": "..."} 또는 {"text": "..."} 형태인 경우
+            if (rootNode.has("txt")) {
+                return rootNode.get("txt").asText();
+            } else if (rootNode.has("text")) {
+                return rootNode.get("text").asText();
+            }
+            // Case B: 단순히 "내용..." 형태의 JSON 문자열인 경우
+            else if (rootNode.isTextual()) {
+                return rootNode.asText();
+            }
+            // Case C: JSON 객체도 아니고 따옴표로 감싸진 문자열도 아닌 경우 (그냥 평문)
+            else {
+                // rootNode.toString()을 하면 따옴표가 다시 붙을 수 있으니 responseBody 반환 고려
+                // 하지만 일반적인 텍스트라면 asText()가 안전함
+                return rootNode.asText();
+            }
         } catch (Exception e) {
-            log.error("AI 서버 원문 읽기 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("원문 읽기 실패: " + e.getMessage());
+            // JSON이 아니라 진짜 평문(Plain Text)이어서 파싱 에러가 났다면 원본 그대로 반환
+            return responseBody;
         }
     }
 
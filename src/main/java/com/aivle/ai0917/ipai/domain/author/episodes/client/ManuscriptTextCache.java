@@ -0,0 +1,139 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 서버(/novel_read)에서 읽어온 원문 텍스트 로컬 캐시
+ * - 키: (userId, workId, epNum) = AI 서버 원문 저장 키와 동일
+ * - 항목 개수가 아니라 텍스트 크기(대략 바이트) 기준으로 상한을 둔다. (회차마다 길이 편차가 큼)
+ * - 원문 저장(/novel_save) 시 AiManuscriptClient에서 해당 키를 무효화한다.
+ * - 무효화마다 키별 세대 번호를 올리고, 읽기는 시작할 때의 세대 번호로만 캐시에 넣을 수 있다.
+ *   (저장 전에 시작한 읽기가 저장 후에 끝나도 이전 원문을 다시 채워 넣지 못함)
+ * - 무효화는 Redis pub/sub으로 다른 인스턴스에도 전달한다. (인스턴스별 캐시라 전달이 끊긴 경우는 TTL까지 남을 수 있음)
+ */
+@Slf4j
+@Component
+public class ManuscriptTextCache implements MessageListener {
+
+    public record Key(String userId, Long workId, Integer epNum) {}
+
+    private final Cache<Key, String> cache;
+
+    // 키별 마지막 무효화 세대 (AI 읽기 응답 시간보다 충분히 길게만 보관)
+    private final Cache<Key, Long> invalidatedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String topic;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public ManuscriptTextCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${manuscript.cache.max-size-mb:64}") long maxSizeMb,
+            @Value("${manuscript.cache.expire-after-write-minutes:30}") long expireMinutes,
+            @Value("${manuscript.cache.topic:ipai:manuscript-cache}") String topic) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = topic;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                // Java String(UTF-16) 기준 대략적인 메모리 사용량
+                .weigher((Key key, String txt) -> txt.length() * 2)
+                // 자주 읽혀도 일정 시간이 지나면 다시 읽음 (다른 인스턴스 무효화 누락 대비)
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(topic));
+    }
+
+    public String get(String userId, Long workId, Integer epNum) {
+        return cache.getIfPresent(new Key(userId, workId, epNum));
+    }
+
+    /**
+     * AI 서버 읽기 시작 전에 받아두는 세대 번호 (put에 그대로 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * readGeneration 이후 이 키가 무효화되지 않았을 때만 저장
+     */
+    public void put(String userId, Long workId, Integer epNum, String txt, long readGeneration) {
+        if (txt == null) {
+            return;
+        }
+        Key key = new Key(userId, workId, epNum);
+        // 같은 키의 무효화(invalidateLocal)와 원자적으로 처리
+        cache.asMap().compute(key, (k, old) -> {
+            Long lastInvalidated = invalidatedAt.getIfPresent(k);
+            if (lastInvalidated != null && lastInvalidated > readGeneration) {
+                log.debug("원문 캐시 저장 생략(읽는 도중 저장됨): workId={}, ep={}", workId, epNum);
+                return old;
+            }
+            return txt;
+        });
+    }
+
+    /**
+     * 이 인스턴스 + 다른 인스턴스 캐시 무효화
+     */
+    public void invalidate(String userId, Long workId, Integer epNum) {
+        invalidateLocal(new Key(userId, workId, epNum));
+        try {
+            redisTemplate.convertAndSend(topic, String.join("\t", instanceId, userId, String.valueOf(workId), String.valueOf(epNum)));
+        } catch (Exception e) {
+            log.warn("원문 캐시 무효화 전파 실패 (다른 인스턴스는 TTL 후 갱신): {}", e.getMessage());
+        }
+    }
+
+    private void invalidateLocal(Key key) {
+        cache.asMap().compute(key, (k, old) -> {
+            invalidatedAt.put(k, generation.incrementAndGet());
+            return null;
+        });
+        log.debug("원문 캐시 무효화: userId={}, workId={}, ep={}", key.userId(), key.workId(), key.epNum());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\t", -1);
+        if (parts.length != 4 || instanceId.equals(parts[0])) {
+            return; // 잘못된 메시지 또는 자기 인스턴스에서 이미 처리함
+        }
+        try {
+            invalidateLocal(new Key(parts[1], Long.valueOf(parts[2]), Integer.valueOf(parts[3])));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 원문 캐시 무효화 메시지: {}", parts[2] + "/" + parts[3]);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        listenerContainer.removeMessageListener(this);
+    }
+}
@@ -0,0 +1,283 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * /novel_read 응답에서 원문 텍스트만 꺼내 Writer로 흘려보내는 스트리밍 추출기
+ * - readNovelFromAi와 같은 규칙을 따른다: {"txt": "..."} / {"text": "..."} / "..."(JSON 문자열) / 평문
+ * - Jackson 스트리밍 파서로 txt 필드 위치까지만 읽고, 문자열 값 자체는 직접 이스케이프를 풀면서 바로 쓴다.
+ *   (Jackson은 문자열 토큰 하나를 통째로 버퍼링하므로, 값 부분은 파서가 읽지 않은 바이트를 넘겨받아 처리)
+ * - 회차 길이와 무관하게 요청당 메모리는 버퍼 크기(수 KB) 수준으로 유지된다.
+ * - 처음 COMMIT_THRESHOLD 분량은 out으로 바로 내보내지 않고 모아둔다. 그 안에서 JSON 파싱이 실패하면
+ *   (예: '{'로 시작하는 평문) readNovelFromAi처럼 응답 원문 그대로를 평문으로 내보낸다.
+ *   이미 내보내기 시작한 뒤의 파싱 오류는 되돌릴 수 없으므로 예외로 전달된다.
+ */
+final class NovelTextExtractor {
+
+    private static final int BUFFER_SIZE = 8192;
+    static final int COMMIT_THRESHOLD = 64 * 1024;
+
+    private NovelTextExtractor() {
+    }
+
+    static void extract(InputStream source, Writer out, JsonFactory jsonFactory) throws IOException {
+        RecordingInputStream recording = new RecordingInputStream(source, COMMIT_THRESHOLD);
+        DeferredWriter deferred = new DeferredWriter(out, COMMIT_THRESHOLD);
+
+        try {
+            extractJson(recording, deferred, jsonFactory);
+            deferred.commit();
+        } catch (IOException e) {
+            if (deferred.isCommitted() || recording.isOverflowed()) {
+                throw e;
+            }
+            // 아직 아무것도 내보내지 않았으면 응답 원문을 그대로 평문으로 (기존 unwrapNovelText와 동일)
+            deferred.discard();
+            copyPlainText(new SequenceInputStream(new ByteArrayInputStream(recording.recorded()), source), out);
+        }
+    }
+
+    private static void extractJson(InputStream source, Writer out, JsonFactory jsonFactory) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(source, BUFFER_SIZE);
+
+        // 첫 유효 문자로 JSON 여부 판단 (평문이면 그대로 복사)
+        in.mark(BUFFER_SIZE);
+        int first = firstNonWhitespace(in);
+        in.reset();
+
+        if (first != '{' && first != '"') {
+            copyPlainText(in, out);
+            return;
+        }
+
+        JsonParser parser = jsonFactory.createParser(in);
+        JsonToken token = parser.nextToken();
+
+        // Case B: 단순히 "내용..." 형태의 JSON 문자열
+        if (token == JsonToken.VALUE_STRING) {
+            writeStringValue(parser, in, out);
+            return;
+        }
+
+        // Case A: {"txt": "..."} 또는 {"text": "..."} (먼저 나오는 필드 사용)
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("txt".equals(field) || "text".equals(field)) {
+                if (value == JsonToken.VALUE_STRING) {
+                    writeStringValue(parser, in, out);
+                } else if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    out.write(parser.getText());
+                }
+                return;
+            }
+            parser.skipChildren();
+        }
+        // Case C: txt/text가 없는 객체 -> 기존 readNovelFromAi(asText)와 동일하게 빈 문자열
+    }
+
+    private static int firstNonWhitespace(InputStream in) throws IOException {
+        int c;
+        int read = 0;
+        while ((c = in.read()) != -1 && read++ < BUFFER_SIZE - 1) {
+            if (!Character.isWhitespace(c)) {
+                return c;
+            }
+        }
+        return c;
+    }
+
+    private static void copyPlainText(InputStream in, Writer out) throws IOException {
+        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        char[] buffer = new char[BUFFER_SIZE];
+        int n;
+        while ((n = reader.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+    }
+
+    /**
+     * 파서가 여는 따옴표까지만 소비한 상태(값은 아직 미파싱)에서 호출.
+     * 파서 내부 버퍼에 남은 바이트 + 아직 읽지 않은 스트림을 이어 붙여 닫는 따옴표까지 직접 디코딩한다.
+     */
+    private static void writeStringValue(JsonParser parser, InputStream rest, Writer out) throws IOException {
+        ByteArrayOutputStream pending = new ByteArrayOutputStream(BUFFER_SIZE);
+        parser.releaseBuffered(pending);
+
+        Reader reader = new BufferedReader(new InputStreamReader(
+                new SequenceInputStream(new ByteArrayInputStream(pending.toByteArray()), rest),
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '"') {
+                return;
+            }
+            if (c != '\\') {
+                out.write(c);
+                continue;
+            }
+            int escaped = reader.read();
+            switch (escaped) {
+                case '"', '\\', '/' -> out.write(escaped);
+                case 'n' -> out.write('\n');
+                case 'r' -> out.write('\r');
+                case 't' -> out.write('\t');
+                case 'b' -> out.write('\b');
+                case 'f' -> out.write('\f');
+                case 'u' -> out.write(readUnicodeEscape(reader));
+                default -> throw new IOException("잘못된 JSON 이스케이프 문자: " + escaped);
+            }
+        }
+        throw new EOFException("원문 문자열이 닫히지 않았습니다.");
+    }
+
+    // \\uXXXX (서로게이트 쌍은 두 번에 나눠 쓰면 Writer 인코더가 합쳐서 처리)
+    private static char readUnicodeEscape(Reader reader) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(reader.read(), 16);
+            if (digit < 0) {
+                throw new IOException("잘못된 유니코드 이스케이프");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * 원본 스트림에서 읽은 앞부분(limit 바이트까지)을 기록 (파싱 실패 시 원문 복구용)
+     */
+    private static final class RecordingInputStream extends FilterInputStream {
+
+        private final ByteArrayOutputStream recorded = new ByteArrayOutputStream();
+        private final int limit;
+        private boolean overflowed;
+
+        RecordingInputStream(InputStream in, int limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                record(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                record(b, off, n);
+            }
+            return n;
+        }
+
+        private void record(byte[] b, int off, int len) {
+            if (overflowed || recorded.size() + len > limit) {
+                overflowed = true;
+                return;
+            }
+            recorded.write(b, off, len);
+        }
+
+        boolean isOverflowed() {
+            return overflowed;
+        }
+
+        byte[] recorded() {
+            return recorded.toByteArray();
+        }
+    }
+
+    /**
+     * threshold 글자까지는 모아두고, 넘어가면 그때부터 out으로 바로 쓰는 Writer
+     */
+    private static final class DeferredWriter extends Writer {
+
+        private final Writer out;
+        private final int threshold;
+        private StringBuilder pending = new StringBuilder();
+
+        DeferredWriter(Writer out, int threshold) {
+            this.out = out;
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (pending == null) {
+                out.write(cbuf, off, len);
+                return;
+            }
+            pending.append(cbuf, off, len);
+            if (pending.length() > threshold) {
+                commit();
+            }
+        }
+
+        // 이스케이프 해제가 글자 단위로 쓰므로 배열을 만들지 않고 처리
+        @Override
+        public void write(int c) throws IOException {
+            if (pending == null) {
+                out.write(c);
+                return;
+            }
+            pending.append((char) c);
+            if (pending.length() > threshold) {
+                commit();
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            if (pending == null) {
+                out.write(str, off, len);
+                return;
+            }
+            pending.append(str, off, off + len);
+            if (pending.length() > threshold) {
+                commit();
+            }
+        }
+
+        boolean isCommitted() {
+            return pending == null;
+        }
+
+        void commit() throws IOException {
+            if (pending != null) {
+                out.write(pending.toString());
+                pending = null;
+            }
+        }
+
+        void discard() {
+            pending = new StringBuilder();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // 확정 전에는 내보내지 않음
+            if (pending == null) {
+                out.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            commit();
+            out.close();
+        }
+    }
+}
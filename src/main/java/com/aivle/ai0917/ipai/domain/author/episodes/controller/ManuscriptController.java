@@ -2,17 +2,28 @@ package com.aivle.ai0917.ipai.domain.author.episodes.controller;
 
 import com.aivle.ai0917.ipai.domain.author.episodes.client.AiAnalysisClient;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.CategoryAnalysisRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.EpisodeAnalysisJobResponseDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptImportResponseDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptRequestDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptResponseDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptUpdateRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.service.EpisodeAnalysisJobService;
 import com.aivle.ai0917.ipai.domain.author.episodes.service.ManuscriptService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -21,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 public class ManuscriptController {
 
     private final ManuscriptService manuscriptService;
+    private final EpisodeAnalysisJobService episodeAnalysisJobService;
 
     // 1. 원문 목록 조회
     @GetMapping("/list")
@@ -36,13 +48,28 @@ public class ManuscriptController {
 
     // 2. 원문 상세 조회
     @GetMapping("/{id}")
-    public ResponseEntity<ManuscriptResponseDto> getManuscriptDetail(
+    public Mono<ResponseEntity<ManuscriptResponseDto>> getManuscriptDetail(
             @PathVariable String userId,
             @PathVariable String title,
             @PathVariable Long id) {
 
-        ManuscriptResponseDto result = manuscriptService.getManuscriptDetail(id);
-        return ResponseEntity.ok(result);
+        return manuscriptService.getManuscriptDetail(id)
+                .map(ResponseEntity::ok);
+    }
+
+    // 2-1. 원문 텍스트 스트리밍 조회
+    // - 상세 조회(2)와 달리 원문 전체를 메모리에 모으지 않고 AI 서버 응답을 그대로 흘려보냄
+    // GET /api/v1/author/{userId}/{title}/manuscript/{id}/text
+    @GetMapping("/{id}/text")
+    public ResponseEntity<StreamingResponseBody> streamManuscriptText(
+            @PathVariable String userId,
+            @PathVariable String title,
+            @PathVariable Long id) {
+
+        StreamingResponseBody body = manuscriptService.streamManuscriptText(id);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(body);
     }
 
 //    // 3. 원문 등록 (JSON Body)
@@ -90,33 +117,81 @@ public class ManuscriptController {
         return ResponseEntity.ok(updatedId);
     }
 
+    // 3-3. 원문 일괄 등록 (기존 연재본 이관용)
+    // - .txt 여러 개 또는 .txt를 묶은 .zip (파일명 앞 숫자 순서로 회차 부여)
+    // - 회차는 즉시 생성되고, AI 원문 저장은 백그라운드에서 진행 -> 3-4로 진행률 확인
+    // POST /api/v1/author/{userId}/{title}/manuscript/import?workId=1 (multipart: files)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ManuscriptImportResponseDto> importManuscripts(
+            @PathVariable String userId,
+            @PathVariable String title,
+            @RequestParam Long workId,
+            @RequestPart("files") List<MultipartFile> files) {
+
+        ManuscriptImportResponseDto result = manuscriptService.importManuscripts(userId, title, workId, files);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
+    }
+
+    // 3-4. 원문 일괄 등록 진행률 조회
+    // GET /api/v1/author/{userId}/{title}/manuscript/import/{importId}
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<ManuscriptImportResponseDto> getImportProgress(
+            @PathVariable String userId,
+            @PathVariable String title,
+            @PathVariable String importId) {
+
+        return ResponseEntity.ok(manuscriptService.getImportProgress(userId, importId));
+    }
+
     // 4. 원문 키워드 추출 (수정: JSON Body 사용)
     @PostMapping("/categories")
-    public ResponseEntity<AiAnalysisClient.CategoryExtractionResponse> extractCategories(
+    public Mono<ResponseEntity<AiAnalysisClient.CategoryExtractionResponse>> extractCategories(
             @PathVariable String userId,
             @PathVariable String title,
             @RequestBody CategoryAnalysisRequestDto requestDto) { // @RequestBody로 변경
 
         log.info("카테고리 추출 요청: episodeId={}, workId={}", requestDto.getEpisodeId(), requestDto.getWorkId());
 
-        AiAnalysisClient.CategoryExtractionResponse result = manuscriptService.extractCategories(
-                userId, requestDto
-        );
-        return ResponseEntity.ok(result);
+        return manuscriptService.extractCategories(userId, requestDto)
+                .map(ResponseEntity::ok);
     }
 
     // 5. 원문 키워드 분석 - 충돌 검토
     @PostMapping("/setting")
-    public ResponseEntity<AiAnalysisClient.SettingConflictResponse> checkSetting(
+    public Mono<ResponseEntity<AiAnalysisClient.SettingConflictResponse>> checkSetting(
             @PathVariable String userId,
             @PathVariable String title,
             @RequestParam Long workId,
             @RequestBody AiAnalysisClient.CategoryExtractionResponse categories) {
 
-        AiAnalysisClient.SettingConflictResponse result = manuscriptService.checkSettingConflict(
-                workId, userId, categories
-        );
-        return ResponseEntity.ok(result);
+        return manuscriptService.checkSettingConflict(workId, userId, categories)
+                .map(ResponseEntity::ok);
+    }
+
+    // 5-1. 원문 분석 작업 등록 (카테고리 추출 -> 충돌 검토를 워커가 순서대로 실행)
+    // - 즉시 202 + 작업 ID 반환, 결과는 5-2 폴링 또는 작가 알림(SSE)으로 확인
+    // POST /api/v1/author/{userId}/{title}/manuscript/analysis
+    @PostMapping("/analysis")
+    public ResponseEntity<EpisodeAnalysisJobResponseDto> submitAnalysis(
+            @PathVariable String userId,
+            @PathVariable String title,
+            @RequestBody CategoryAnalysisRequestDto requestDto) {
+
+        log.info("원문 분석 작업 요청: episodeId={}, workId={}", requestDto.getEpisodeId(), requestDto.getWorkId());
+
+        EpisodeAnalysisJobResponseDto job = episodeAnalysisJobService.submit(userId, requestDto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    // 5-2. 원문 분석 작업 상태/결과 조회
+    // GET /api/v1/author/{userId}/{title}/manuscript/analysis/{jobId}
+    @GetMapping("/analysis/{jobId}")
+    public ResponseEntity<EpisodeAnalysisJobResponseDto> getAnalysis(
+            @PathVariable String userId,
+            @PathVariable String title,
+            @PathVariable Long jobId) {
+
+        return ResponseEntity.ok(episodeAnalysisJobService.getJob(userId, jobId));
     }
 
     // 6. 원문 삭제
@@ -130,7 +205,8 @@ public class ManuscriptController {
         return ResponseEntity.ok("삭제 완료");
     }
 
-    // 7. 원문 정보(소제목, 회차) 변경
+    // 7. 원문 정보(소제목, 본문) 변경
+    // - 회차 번호(ep_num)는 변경 불가 (다른 값을 보내면 400)
     // PATCH /api/v1/author/{userId}/{title}/manuscript/{id}
     @PatchMapping("/{id}")
     public ResponseEntity<String> updateManuscript(
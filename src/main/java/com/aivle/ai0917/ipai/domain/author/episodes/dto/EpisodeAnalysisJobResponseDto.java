@@ -0,0 +1,60 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.dto;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeAnalysisJob;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원문 분석 작업 상태 조회 응답
+ * - categories: /categories 응답과 같은 형태 (1단계 완료 후 채워짐)
+ * - conflicts: /setting 응답과 같은 형태 (COMPLETED 시 채워짐)
+ */
+@Getter
+@Builder
+public class EpisodeAnalysisJobResponseDto {
+
+    private Long jobId;
+    private Long episodeId;
+    private Long workId;
+    private Integer epNum;
+    private EpisodeAnalysisJob.JobStatus status;
+    private int attempt;
+    private JsonNode categories;
+    private JsonNode conflicts;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static EpisodeAnalysisJobResponseDto of(EpisodeAnalysisJob job, ObjectMapper objectMapper) {
+        return EpisodeAnalysisJobResponseDto.builder()
+                .jobId(job.getId())
+                .episodeId(job.getEpisodeId())
+                .workId(job.getWorkId())
+                .epNum(job.getEpNum())
+                .status(job.getStatus())
+                .attempt(job.getAttempt())
+                .categories(readTree(objectMapper, job.getCategoriesResult()))
+                .conflicts(readTree(objectMapper, job.getConflictResult()))
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private static JsonNode readTree(ObjectMapper objectMapper, String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 원문 일괄 등록 결과 / 진행률
+ * - status: PENDING(저장 대기), PROCESSING(AI 저장 중), SENT(완료), FAILED(실패)
+ */
+@Getter
+@Builder
+public class ManuscriptImportResponseDto {
+
+    private String importId;
+    private int total;
+    private int sent;
+    private int failed;
+    private int inProgress;
+    private boolean completed;
+    private List<Item> episodes;
+
+    @Getter
+    @Builder
+    public static class Item {
+        private Long episodeId;
+        private Integer epNum;
+        private String subtitle;
+        private String status;
+        private String error;
+    }
+
+    public static ManuscriptImportResponseDto of(String importId, List<Item> items) {
+        int sent = (int) items.stream().filter(i -> "SENT".equals(i.getStatus())).count();
+        int failed = (int) items.stream().filter(i -> "FAILED".equals(i.getStatus())).count();
+        int inProgress = items.size() - sent - failed;
+
+        return ManuscriptImportResponseDto.builder()
+                .importId(importId)
+                .total(items.size())
+                .sent(sent)
+                .failed(failed)
+                .inProgress(inProgress)
+                .completed(inProgress == 0)
+                .episodes(items)
+                .build();
+    }
+}
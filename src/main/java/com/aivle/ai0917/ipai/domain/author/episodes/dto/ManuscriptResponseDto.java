@@ -12,22 +12,25 @@ public class ManuscriptResponseDto {
     private Long workId;
     private String title;
     private Integer episode;
+    private Long displayNumber; // [추가] 화면 표시용 회차 번호 (episode는 저장 키)
     private String subtitle;
     private String txt;
     private boolean isReadOnly ;
 
-    public ManuscriptResponseDto(ManuscriptView manuscript, String txt) {
+    // displayNumber는 뷰 컬럼이 아니라 목록/상세 조회 시 작품 단위로 계산해서 넘김 (ManuscriptRepository.findDisplayNumbers)
+    public ManuscriptResponseDto(ManuscriptView manuscript, Long displayNumber, String txt) {
         this.id = manuscript.getId();
         this.userId = manuscript.getUserId();
         this.workId = manuscript.getWorkId();
         this.title = manuscript.getTitle();
         this.episode = manuscript.getEpisode();
+        this.displayNumber = displayNumber;
         this.subtitle = manuscript.getSubtitle();
         this.txt = txt;
         this.isReadOnly = manuscript.isReadOnly();
     }
 
-    public ManuscriptResponseDto(ManuscriptView manuscript) {
-        this(manuscript, null);
+    public ManuscriptResponseDto(ManuscriptView manuscript, Long displayNumber) {
+        this(manuscript, displayNumber, null);
     }
 }
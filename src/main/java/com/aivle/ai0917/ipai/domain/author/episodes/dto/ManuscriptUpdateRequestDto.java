@@ -9,6 +9,6 @@ import lombok.Setter;
 @NoArgsConstructor
 public class ManuscriptUpdateRequestDto {
     private String subtitle; // 변경할 소제목
-    private Integer epNum;
+    private Integer epNum; // 변경 불가 (현재 회차와 다르면 거절)
     private String txt;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 다른 작가의 원문에 접근하려 할 때 발생 (403)
+ */
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class EpisodeAccessDeniedException extends RuntimeException {
+
+    public EpisodeAccessDeniedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 원문 또는 원문 분석 작업이 없을 때 발생 (404)
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class EpisodeNotFoundException extends RuntimeException {
+
+    public EpisodeNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 등록된 원문의 회차 번호(ep_num)를 바꾸려 할 때 발생 (400)
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class EpisodeNumberChangeNotAllowedException extends RuntimeException {
+
+    public EpisodeNumberChangeNotAllowedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 원문 텍스트의 AI 서버 저장이 실패해서 분석할 수 없을 때 발생 (409)
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class EpisodeTextNotSavedException extends RuntimeException {
+
+    public EpisodeTextNotSavedException(String message) {
+        super(message);
+    }
+}
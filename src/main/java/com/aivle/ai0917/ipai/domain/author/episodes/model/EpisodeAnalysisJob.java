@@ -0,0 +1,132 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원문 분석 작업 (카테고리 추출 -> 설정집 충돌 검토)
+ * - 요청 스레드에서 AI를 기다리지 않고, 작업을 저장한 뒤 워커가 순서대로 처리한다.
+ * - DB에 저장되므로 서버 재시작/다중 인스턴스에서도 작업이 유실되거나 중복 실행되지 않는다.
+ * - 원문당 진행 중 작업은 1개 (schema.sql의 부분 유니크 인덱스 uq_analysis_jobs_active_episode)
+ * - version: 재대기된 작업을 원래 워커가 뒤늦게 저장해서 새 워커의 결과를 덮어쓰지 않도록
+ *   (선점/재대기/실패 처리 네이티브 쿼리도 version을 올린다)
+ */
+@Entity
+@Table(name = "episode_analysis_jobs", indexes = {
+        @Index(name = "idx_analysis_jobs_status", columnList = "status, available_at"),
+        @Index(name = "idx_analysis_jobs_episode_id", columnList = "episode_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EpisodeAnalysisJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "episode_id", nullable = false)
+    private Long episodeId;
+
+    @Column(name = "work_id", nullable = false)
+    private Long workId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "ep_num")
+    private Integer epNum;
+
+    private String subtitle;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private JobStatus status = JobStatus.PENDING;
+
+    // 시도 횟수 (AI 서버 차단 등으로 재대기된 경우 증가)
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempt = 0;
+
+    // 1단계 결과 (카테고리 추출 JSON)
+    @Column(name = "categories_result", columnDefinition = "TEXT")
+    private String categoriesResult;
+
+    // 2단계 결과 (설정집 충돌 검토 JSON)
+    @Column(name = "conflict_result", columnDefinition = "TEXT")
+    private String conflictResult;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    // 이 시각 이후에만 워커가 가져감 (재대기 시 백오프)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 기존 행이 있는 테이블에도 컬럼이 추가되도록 기본값 지정
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0 not null")
+    @Builder.Default
+    private long version = 0L;
+
+    public enum JobStatus {
+        PENDING,     // 대기
+        EXTRACTING,  // 카테고리 추출 중
+        CHECKING,    // 설정집 충돌 검토 중
+        COMPLETED,   // 완료
+        FAILED       // 실패
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (availableAt == null) availableAt = createdAt;
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == JobStatus.COMPLETED || status == JobStatus.FAILED;
+    }
+
+    public void markChecking(String categoriesResult) {
+        this.status = JobStatus.CHECKING;
+        this.categoriesResult = categoriesResult;
+    }
+
+    public void markCompleted(String conflictResult) {
+        this.status = JobStatus.COMPLETED;
+        this.conflictResult = conflictResult;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = JobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    // 일시적인 실패(AI 서버 차단 등) -> 다시 대기열로
+    public void requeue(String reason, LocalDateTime availableAt) {
+        this.status = JobStatus.PENDING;
+        this.errorMessage = reason;
+        this.availableAt = availableAt;
+    }
+}
@@ -0,0 +1,106 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원문 텍스트 AI 저장(/novel_save) 아웃박스
+ * - 회차 row 변경과 같은 트랜잭션에서 텍스트를 여기에 적어두고, 실제 AI 서버 저장은 디스패처가 트랜잭션 밖에서 수행한다.
+ * - 저장 성공 시 episodes.txt_path를 갱신하고 SENT로 바뀐다. (일괄 등록 진행률 조회용으로 보관 후 주기적으로 정리)
+ */
+@Entity
+@Table(name = "episode_text_outbox", indexes = {
+        @Index(name = "idx_text_outbox_status", columnList = "status, available_at"),
+        @Index(name = "idx_text_outbox_key", columnList = "user_id, work_id, ep_num, status"),
+        @Index(name = "idx_text_outbox_import_id", columnList = "import_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EpisodeTextOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "episode_id", nullable = false)
+    private Long episodeId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "work_id", nullable = false)
+    private Long workId;
+
+    // AI 서버 저장 키 (userId, workId, epNum)
+    @Column(name = "ep_num", nullable = false)
+    private Integer epNum;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String txt;
+
+    // 일괄 등록으로 생성된 경우 등록 ID (진행률 조회 키)
+    @Column(name = "import_id", length = 36)
+    private String importId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempt = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum OutboxStatus {
+        PENDING,     // 전송 대기
+        PROCESSING,  // 전송 중
+        SENT,        // 전송 완료
+        FAILED       // 재시도 초과
+    }
+
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+        if (availableAt == null) availableAt = createdAt;
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.lastError = null;
+        // 진행률 조회에는 필요 없으므로 텍스트는 비워서 보관 용량을 줄임
+        this.txt = "";
+    }
+
+    public void retryLater(String error, LocalDateTime availableAt) {
+        this.status = OutboxStatus.PENDING;
+        this.lastError = error;
+        this.availableAt = availableAt;
+    }
+
+    public void markFailed(String error) {
+        this.status = OutboxStatus.FAILED;
+        this.lastError = error;
+    }
+}
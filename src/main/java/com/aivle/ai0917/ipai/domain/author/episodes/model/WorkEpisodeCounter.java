@@ -0,0 +1,29 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 작품별 마지막으로 발급한 회차 번호(ep_num)
+ * - ep_num은 AI 저장 키/설정집 참조 키라서 한 번 쓴 번호는 다시 발급하지 않는다.
+ * - episodes의 MAX(ep_num)은 삭제 회차가 영구 삭제(AuthorDataCleanupScheduler)되면 내려가므로 별도로 보관
+ * - 값 변경은 WorkEpisodeCounterRepository의 UPSERT로만 한다. (행 잠금으로 같은 작품의 동시 발급 직렬화)
+ */
+@Entity
+@Table(name = "work_episode_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WorkEpisodeCounter {
+
+    @Id
+    @Column(name = "work_id")
+    private Long workId;
+
+    @Column(name = "last_ep_num", nullable = false)
+    private int lastEpNum;
+}
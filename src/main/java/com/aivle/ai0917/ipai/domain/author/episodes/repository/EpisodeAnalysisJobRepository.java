@@ -0,0 +1,148 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.repository;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeAnalysisJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EpisodeAnalysisJobRepository extends JpaRepository<EpisodeAnalysisJob, Long> {
+
+    // 같은 원문에 대해 아직 끝나지 않은 작업 (중복 제출 방지)
+    Optional<EpisodeAnalysisJob> findFirstByEpisodeIdAndStatusInOrderByIdDesc(
+            Long episodeId, Collection<EpisodeAnalysisJob.JobStatus> statuses);
+
+    Optional<EpisodeAnalysisJob> findByIdAndUserId(Long id, String userId);
+
+    /**
+     * 같은 원문에 진행 중인 작업이 없을 때만 새 작업 등록
+     * - 부분 유니크 인덱스(uq_analysis_jobs_active_episode) 기준 ON CONFLICT DO NOTHING
+     *   (동시에 두 번 눌러도 한 건만 들어가고, 나중 요청은 먼저 들어간 요청의 커밋을 기다린 뒤 null을 받음)
+     * - 등록했으면 새 작업 ID, 이미 진행 중인 작업이 있으면 null
+     */
+    @Transactional
+    @Query(value = """
+        INSERT INTO episode_analysis_jobs (
+            episode_id, work_id, user_id, ep_num, subtitle,
+            status, attempt, available_at, created_at, updated_at, version
+        ) VALUES (
+            :episodeId, :workId, :userId, :epNum, :subtitle,
+            'PENDING', 0, :now, :now, :now, 0
+        )
+        ON CONFLICT (episode_id) WHERE status IN ('PENDING', 'EXTRACTING', 'CHECKING') DO NOTHING
+        RETURNING id
+        """, nativeQuery = true)
+    Long insertIfNoActiveJob(@Param("episodeId") Long episodeId,
+                             @Param("workId") Long workId,
+                             @Param("userId") String userId,
+                             @Param("epNum") Integer epNum,
+                             @Param("subtitle") String subtitle,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 대기 중인 작업 1건을 선점 (PENDING -> EXTRACTING)
+     * - FOR UPDATE SKIP LOCKED: 여러 인스턴스가 동시에 폴링해도 같은 작업을 가져가지 않음
+     * - 원문 텍스트가 AI 서버에 저장된 작업만 (회차의 최신 아웃박스 건이 SENT이거나, 정리되어 없을 때)
+     *   -> AI 서버가 이전 텍스트나 빈 파일을 분석하지 않음
+     * - 같은 작품에 먼저 등록된 작업이 진행 중이면 건너뜀 (일괄 등록한 회차들을 앞 회차부터 차례로 분석)
+     * - 가져갈 작업이 없으면 null
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE episode_analysis_jobs
+        SET status = 'EXTRACTING',
+            attempt = attempt + 1,
+            version = version + 1,
+            updated_at = :now
+        WHERE id = (
+            SELECT j.id FROM episode_analysis_jobs j
+            WHERE j.status = 'PENDING'
+              AND j.available_at <= :now
+              AND COALESCE((
+                  SELECT o.status FROM episode_text_outbox o
+                  WHERE o.episode_id = j.episode_id
+                  ORDER BY o.id DESC
+                  LIMIT 1
+              ), 'SENT') = 'SENT'
+              AND NOT EXISTS (
+                  SELECT 1 FROM episode_analysis_jobs p
+                  WHERE p.work_id = j.work_id
+                    AND p.id < j.id
+                    AND p.status IN ('PENDING', 'EXTRACTING', 'CHECKING')
+              )
+            ORDER BY j.id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+        """, nativeQuery = true)
+    Long claimNextPending(@Param("now") LocalDateTime now);
+
+    /**
+     * 원문 텍스트 AI 저장이 최종 실패한 회차의 대기 작업을 실패 처리
+     * - 실패 처리한 작업 ID 목록 반환 (알림 발송용)
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE episode_analysis_jobs
+        SET status = 'FAILED',
+            error_message = :reason,
+            finished_at = :now,
+            version = version + 1,
+            updated_at = :now
+        WHERE episode_id = :episodeId
+          AND status = 'PENDING'
+        RETURNING id
+        """, nativeQuery = true)
+    List<Long> failPendingByEpisodeId(@Param("episodeId") Long episodeId,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("reason") String reason);
+
+    /**
+     * 처리 중 상태로 오래 멈춘 작업(서버 종료 등)을 다시 대기열로 되돌림
+     * - 시도 횟수가 남은 작업만 (attempt는 선점 시 증가)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE episode_analysis_jobs
+        SET status = 'PENDING',
+            available_at = :now,
+            version = version + 1,
+            updated_at = :now
+        WHERE status IN ('EXTRACTING', 'CHECKING')
+          AND updated_at < :threshold
+          AND attempt < :maxAttempts
+        """, nativeQuery = true)
+    int requeueStale(@Param("threshold") LocalDateTime threshold,
+                     @Param("now") LocalDateTime now,
+                     @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 멈춘 작업 중 시도 횟수를 다 쓴 작업은 실패 처리 (무한 재시도 방지)
+     * - 실패 처리한 작업 ID 목록 반환 (알림 발송용)
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE episode_analysis_jobs
+        SET status = 'FAILED',
+            error_message = :reason,
+            finished_at = :now,
+            version = version + 1,
+            updated_at = :now
+        WHERE status IN ('EXTRACTING', 'CHECKING')
+          AND updated_at < :threshold
+          AND attempt >= :maxAttempts
+        RETURNING id
+        """, nativeQuery = true)
+    List<Long> failStaleExhausted(@Param("threshold") LocalDateTime threshold,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("maxAttempts") int maxAttempts,
+                                  @Param("reason") String reason);
+}
@@ -0,0 +1,124 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.repository;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeTextOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EpisodeTextOutboxRepository extends JpaRepository<EpisodeTextOutbox, Long> {
+
+    /**
+     * 같은 AI 저장 키(userId, workId, epNum)의 전송 대기 건 제거 (새 텍스트가 들어오면 이전 텍스트는 보낼 필요 없음)
+     * - 회차 row가 아니라 저장 키 기준: 삭제 후 같은 ep_num으로 다시 만든 회차의 이전 텍스트도 함께 대체된다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM episode_text_outbox
+        WHERE user_id = :userId
+          AND work_id = :workId
+          AND ep_num = :epNum
+          AND status = 'PENDING'
+        """, nativeQuery = true)
+    int deletePendingByKey(@Param("userId") String userId,
+                           @Param("workId") Long workId,
+                           @Param("epNum") Integer epNum);
+
+    /**
+     * 전송 대기 1건 선점 (PENDING -> PROCESSING)
+     * - AI 저장 키(userId, workId, epNum)별로 한 건씩, 먼저 쌓인 순서대로만 보냄
+     *   (같은 키가 전송 중이거나 앞선 대기 건이 있으면 건너뜀 -> 이전 텍스트가 새 텍스트를 덮어쓰지 않음)
+     * - 앞선 대기 건 조건 덕분에 두 인스턴스가 동시에 선점해도 같은 키의 두 건을 함께 가져가지 않는다.
+     * - 가져갈 건이 없으면 null
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE episode_text_outbox
+        SET status = 'PROCESSING',
+            attempt = attempt + 1,
+            updated_at = :now
+        WHERE id = (
+            SELECT o.id FROM episode_text_outbox o
+            WHERE o.status = 'PENDING'
+              AND o.available_at <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM episode_text_outbox p
+                  WHERE p.user_id = o.user_id
+                    AND p.work_id = o.work_id
+                    AND p.ep_num = o.ep_num
+                    AND (p.status = 'PROCESSING'
+                         OR (p.status = 'PENDING' AND p.id < o.id))
+              )
+            ORDER BY o.id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING id
+        """, nativeQuery = true)
+    Long claimNextPending(@Param("now") LocalDateTime now);
+
+    /**
+     * 전송 중 상태로 오래 멈춘 건(서버 종료 등)을 다시 대기로 (저장은 같은 키 덮어쓰기라 재전송해도 안전)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE episode_text_outbox
+        SET status = 'PENDING',
+            available_at = :now,
+            updated_at = :now
+        WHERE status = 'PROCESSING'
+          AND updated_at < :threshold
+        """, nativeQuery = true)
+    int requeueStale(@Param("threshold") LocalDateTime threshold, @Param("now") LocalDateTime now);
+
+    // 회차의 가장 최근 아웃박스 상태 (정리되어 없으면 null)
+    @Query(value = """
+        SELECT status FROM episode_text_outbox
+        WHERE episode_id = :episodeId
+        ORDER BY id DESC
+        LIMIT 1
+        """, nativeQuery = true)
+    String findLatestStatusByEpisodeId(@Param("episodeId") Long episodeId);
+
+    // 전송 완료 후 보관 기간이 지난 건 정리
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM episode_text_outbox WHERE status = 'SENT' AND updated_at < :threshold",
+            nativeQuery = true)
+    int deleteSentBefore(@Param("threshold") LocalDateTime threshold);
+
+    /**
+     * 일괄 등록 회차별 진행 상태
+     */
+    @Query(value = """
+        SELECT o.episode_id AS "episodeId",
+               o.ep_num     AS "epNum",
+               e.subtitle   AS "subtitle",
+               o.status     AS "status",
+               o.last_error AS "lastError"
+        FROM episode_text_outbox o
+        LEFT JOIN episodes e ON e.id = o.episode_id
+        WHERE o.import_id = :importId
+          AND o.user_id = :userId
+        ORDER BY o.ep_num
+        """, nativeQuery = true)
+    List<ImportItemView> findImportItems(@Param("importId") String importId, @Param("userId") String userId);
+
+    interface ImportItemView {
+        Long getEpisodeId();
+
+        Integer getEpNum();
+
+        String getSubtitle();
+
+        String getStatus();
+
+        String getLastError();
+    }
+}
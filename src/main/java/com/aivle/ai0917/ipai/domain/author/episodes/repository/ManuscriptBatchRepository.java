@@ -0,0 +1,112 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 원문 일괄 등록용 JDBC 배치 저장소
+ * - 회차 INSERT는 여러 행을 한 문장(multi-row VALUES + RETURNING)으로 보내서 왕복 1회로 끝낸다.
+ * - 아웃박스/분석 작업 INSERT는 JDBC batch로 묶어서 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ManuscriptBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record EpisodeRow(Integer epNum, String subtitle, String txt) {}
+
+    /**
+     * 회차 일괄 INSERT
+     * @return ep_num -> 생성된 episode id
+     */
+    public Map<Integer, Long> insertEpisodes(String userId, Long workId, String title, List<EpisodeRow> rows) {
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO episodes (
+                    user_id, work_id, title, ep_num, subtitle, txt_path, word_count,
+                    created_at, updated_at
+                ) VALUES
+                """);
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ",").append("(?, ?, ?, ?, ?, 'pending', ?, NOW(), NOW())");
+        }
+        sql.append(" RETURNING id, ep_num");
+
+        Map<Integer, Long> ids = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int idx = 1;
+            for (EpisodeRow row : rows) {
+                ps.setString(idx++, userId);
+                ps.setLong(idx++, workId);
+                ps.setString(idx++, title);
+                ps.setInt(idx++, row.epNum());
+                ps.setString(idx++, row.subtitle());
+                ps.setInt(idx++, row.txt() != null ? row.txt().length() : 0);
+            }
+            return ps;
+        }, rs -> {
+            ids.put(rs.getInt("ep_num"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    /**
+     * 아웃박스 일괄 INSERT (AI 서버 원문 저장 예약)
+     */
+    public void insertOutbox(String importId, String userId, Long workId,
+                             List<EpisodeRow> rows, Map<Integer, Long> episodeIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO episode_text_outbox (
+                    episode_id, user_id, work_id, ep_num, txt, import_id,
+                    status, attempt, available_at, created_at, updated_at
+                ) VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, ?, ?, ?)
+                """, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, episodeIds.get(row.epNum()));
+            ps.setString(2, userId);
+            ps.setLong(3, workId);
+            ps.setInt(4, row.epNum());
+            ps.setString(5, row.txt() != null ? row.txt() : "");
+            ps.setString(6, importId);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    /**
+     * 원문 분석 작업 일괄 등록 (회차 오름차순 -> 작업 ID도 회차 순서)
+     * - 각 작업은 해당 회차 텍스트가 AI 서버에 저장된 뒤에 선점된다.
+     */
+    public void insertAnalysisJobs(String userId, Long workId,
+                                   List<EpisodeRow> rows, Map<Integer, Long> episodeIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO episode_analysis_jobs (
+                    episode_id, work_id, user_id, ep_num, subtitle,
+                    status, attempt, available_at, created_at, updated_at, version
+                ) VALUES (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?, ?, 0)
+                ON CONFLICT (episode_id) WHERE status IN ('PENDING', 'EXTRACTING', 'CHECKING') DO NOTHING
+                """, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, episodeIds.get(row.epNum()));
+            ps.setLong(2, workId);
+            ps.setString(3, userId);
+            ps.setInt(4, row.epNum());
+            ps.setString(5, row.subtitle());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
@@ -12,7 +12,7 @@ import java.util.List;
 
 public interface ManuscriptCommandRepository extends Repository<ManuscriptView, Long> {
 
-    @Modifying
+    // [수정] 생성된 id를 바로 반환 (삽입 후 목록 재조회 제거)
     @Transactional
     @Query(
             value = """
@@ -24,10 +24,11 @@ public interface ManuscriptCommandRepository extends Repository<ManuscriptView,
             :userId, :workId, :title, :episode, :subtitle, :txtPath, :wordCount,
             NOW(), NOW()
         )
+        RETURNING id
         """,
             nativeQuery = true
     )
-    void insert(
+    Long insert(
             @Param("userId") String userId,
             @Param("workId") Long workId,
             @Param("title") String title,
@@ -65,13 +66,13 @@ public interface ManuscriptCommandRepository extends Repository<ManuscriptView,
     int deleteById(@Param("id") Long id);
 
     // [수정] 텍스트 경로(txt_path)와 글자 수(word_count)도 수정 가능하도록 변경
+    // - ep_num은 AI 저장 키라서 수정 대상에서 제외
     @Modifying
     @Transactional
     @Query(
             value = """
             UPDATE episodes 
             SET subtitle = COALESCE(:subtitle, subtitle),
-                ep_num = COALESCE(:epNum, ep_num),
                 txt_path = COALESCE(:txtPath, txt_path),
                 word_count = COALESCE(:wordCount, word_count),
                 updated_at = NOW() 
@@ -82,29 +83,10 @@ public interface ManuscriptCommandRepository extends Repository<ManuscriptView,
     int updateManuscript(
             @Param("id") Long id,
             @Param("subtitle") String subtitle,
-            @Param("epNum") Integer epNum,
             @Param("txtPath") String txtPath,     // [추가]
             @Param("wordCount") Integer wordCount // [추가]
     );
 
-    // [추가] 삭제된 회차 이후의 에피소드 번호들을 1씩 감소 (재정렬)
-    @Modifying
-    @Transactional
-    @Query(
-            value = """
-            UPDATE episodes
-            SET ep_num = ep_num - 1
-            WHERE work_id = :workId
-              AND ep_num > :deletedEpNum
-              AND deleted_at IS NULL
-            """,
-            nativeQuery = true
-    )
-    void reorderEpisodesAfterDeletion(
-            @Param("workId") Long workId,
-            @Param("deletedEpNum") Integer deletedEpNum
-    );
-
     // [추가] 에피소드 목록을 읽기 전용(is_read_only = true)으로 변경
     @Modifying
     @Transactional
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ManuscriptRepository extends JpaRepository<ManuscriptView, Long> {
@@ -20,6 +22,31 @@ public interface ManuscriptRepository extends JpaRepository<ManuscriptView, Long
 
     Optional<ManuscriptView> findByWorkIdAndEpisode(Long workId, Integer episode);
 
+    /**
+     * [추가] 화면 표시용 회차 번호 (작품 내 ep_num 순위)
+     * - ep_num은 AI 저장 키라서 삭제 후에도 당기지 않으므로 빈 번호가 생길 수 있어, 화면에는 순위를 보여준다.
+     * - 조회한 페이지의 작품들만 윈도 함수로 한 번 계산하고, 요청한 회차 ID의 순위만 반환
+     */
+    @Query(
+            value = """
+            SELECT r.id AS "id", r.display_number AS "displayNumber"
+            FROM (SELECT v.id,
+                         row_number() OVER (PARTITION BY v.work_id ORDER BY v.ep_num) AS display_number
+                  FROM active_episodes_view v
+                  WHERE v.work_id IN (:workIds)) r
+            WHERE r.id IN (:ids)
+            """,
+            nativeQuery = true
+    )
+    List<DisplayNumberView> findDisplayNumbers(@Param("workIds") Collection<Long> workIds,
+                                               @Param("ids") Collection<Long> ids);
+
+    interface DisplayNumberView {
+        Long getId();
+
+        Long getDisplayNumber();
+    }
+
     @Query(
             value = "SELECT MAX(ep_num) FROM episodes WHERE work_id = :workId AND deleted_at IS NULL",
             nativeQuery = true
@@ -28,5 +55,28 @@ public interface ManuscriptRepository extends JpaRepository<ManuscriptView, Long
 
     boolean existsByWorkIdAndIsReadOnlyFalse(Long workId);
 
+    /**
+     * [추가] 원문 신규 등록 전 검사를 한 번에 조회
+     * - 요청 회차 사용 여부, 분석 대기(is_read_only = false) 회차 존재 여부
+     * - 회차 사용 여부는 삭제된 회차까지 포함 (삭제된 회차의 AI 저장 키/설정집 참조를 새 회차가 재사용하지 않도록)
+     * - episode가 0이면(자동 회차) 사용 여부는 항상 false, 자동 회차 번호는 WorkEpisodeCounterRepository에서 발급
+     */
+    @Query(
+            value = """
+            SELECT EXISTS (SELECT 1 FROM episodes e
+                           WHERE e.work_id = :workId AND e.ep_num = :episode)        AS "episodeExists",
+                   EXISTS (SELECT 1 FROM active_episodes_view v
+                           WHERE v.work_id = :workId AND v.is_read_only = false)     AS "pendingAnalysis"
+            """,
+            nativeQuery = true
+    )
+    UploadPrecheck findUploadPrecheck(@Param("workId") Long workId, @Param("episode") Integer episode);
+
+    interface UploadPrecheck {
+        Boolean getEpisodeExists();
+
+        Boolean getPendingAnalysis();
+    }
+
 
 }
\ No newline at end of file
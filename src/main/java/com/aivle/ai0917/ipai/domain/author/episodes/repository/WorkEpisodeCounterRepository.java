@@ -0,0 +1,28 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.repository;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.model.WorkEpisodeCounter;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface WorkEpisodeCounterRepository extends Repository<WorkEpisodeCounter, Long> {
+
+    /**
+     * 회차 번호 발급: 마지막 번호를 max(마지막 번호, floor) + count로 올리고 새 마지막 번호를 반환
+     * - 자동 회차 n개: floor = 0, count = n -> (반환값 - n + 1) ~ 반환값을 사용
+     * - 수동 회차 지정: floor = 지정 번호, count = 0 -> 이후 자동 발급이 지정 번호 아래로 내려가지 않음
+     * - 카운터가 없는 작품(도입 이전 작품)은 삭제 회차를 포함한 episodes의 최대 회차에서 시작
+     * - 호출한 트랜잭션이 끝날 때까지 작품 행이 잠기므로 같은 작품의 동시 등록은 순서대로 처리된다.
+     */
+    @Transactional
+    @Query(value = """
+        INSERT INTO work_episode_counters (work_id, last_ep_num)
+        VALUES (:workId,
+                GREATEST(:floor, (SELECT COALESCE(MAX(e.ep_num), 0) FROM episodes e WHERE e.work_id = :workId)) + :count)
+        ON CONFLICT (work_id) DO UPDATE
+        SET last_ep_num = GREATEST(work_episode_counters.last_ep_num, :floor) + :count
+        RETURNING last_ep_num
+        """, nativeQuery = true)
+    int advance(@Param("workId") Long workId, @Param("floor") int floor, @Param("count") int count);
+}
@@ -0,0 +1,103 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.scheduler;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.service.EpisodeAnalysisJobService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원문 분석 작업 워커
+ * - 주기적으로 대기(PENDING) 작업을 선점해서 전용 스레드 풀에서 실행한다.
+ * - 동시에 실행되는 분석 수는 max-concurrent로 제한 (남는 슬롯만큼만 선점하므로 나머지는 DB에서 대기)
+ * - 여러 인스턴스에서 동시에 돌아도 선점 쿼리(SKIP LOCKED)로 같은 작업을 두 번 실행하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "episode-analysis.worker.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class EpisodeAnalysisJobWorker {
+
+    private final EpisodeAnalysisJobService jobService;
+    private final Semaphore slots;
+    private final ExecutorService executor;
+    private final Duration staleAfter;
+
+    public EpisodeAnalysisJobWorker(
+            EpisodeAnalysisJobService jobService,
+            @Value("${episode-analysis.max-concurrent:4}") int maxConcurrent,
+            @Value("${episode-analysis.stale-after:10m}") Duration staleAfter) {
+        this.jobService = jobService;
+        this.slots = new Semaphore(maxConcurrent);
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, new CustomizableThreadFactory("analysis-worker-"));
+        this.staleAfter = staleAfter;
+    }
+
+    /**
+     * 빈 슬롯만큼 대기 작업을 선점해서 실행
+     */
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${episode-analysis.poll-interval-ms:2000}")
+    public void poll() {
+        while (slots.tryAcquire()) {
+            Long jobId;
+            try {
+                jobId = jobService.claimNext();
+            } catch (Exception e) {
+                slots.release();
+                log.error("원문 분석 작업 선점 실패", e);
+                return;
+            }
+
+            if (jobId == null) {
+                slots.release();
+                return;
+            }
+
+            executor.execute(() -> {
+                try {
+                    jobService.runJob(jobId);
+                } catch (Exception e) {
+                    log.error("원문 분석 작업 실행 중 예외 발생: jobId={}", jobId, e);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    /**
+     * 서버 종료 등으로 처리 중 상태에 멈춘 작업을 다시 대기열로
+     */
+    @Scheduled(initialDelay = 30000, fixedDelay = 60000)
+    public void recoverStaleJobs() {
+        try {
+            int requeued = jobService.requeueStale(staleAfter);
+            if (requeued > 0) {
+                log.warn("멈춘 원문 분석 작업 {}건을 재대기 처리했습니다.", requeued);
+            }
+        } catch (Exception e) {
+            log.error("멈춘 원문 분석 작업 복구 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            // 남은 작업은 stale 복구로 다른 인스턴스/재시작 후 다시 실행됨
+            executor.shutdownNow();
+        }
+    }
+}
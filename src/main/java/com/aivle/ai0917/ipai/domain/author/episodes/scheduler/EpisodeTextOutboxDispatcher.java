@@ -0,0 +1,188 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.scheduler;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.client.AiManuscriptClient;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeTextOutbox;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.EpisodeTextOutboxRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.ManuscriptCommandRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.service.EpisodeAnalysisJobService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원문 텍스트 아웃박스 디스패처
+ * - 아웃박스에 쌓인 텍스트를 AI 서버(/novel_save)에 저장하고 episodes.txt_path를 갱신한다.
+ * - AI 호출은 DB 트랜잭션 밖에서 수행하므로, 업로드 요청의 커넥션 점유 시간은 INSERT 몇 건 수준으로 줄어든다.
+ * - 등록 트랜잭션 커밋 직후 바로 깨우고, 놓친 건은 주기 폴링으로 처리한다.
+ * - 원문 분석 작업은 회차의 최신 아웃박스 건이 SENT가 된 뒤에만 선점되며, 최종 실패(FAILED)하면 대기 작업도 실패 처리한다.
+ */
+@Slf4j
+@Component
+public class EpisodeTextOutboxDispatcher {
+
+    private final EpisodeTextOutboxRepository outboxRepository;
+    private final ManuscriptCommandRepository manuscriptCommandRepository;
+    private final AiManuscriptClient aiManuscriptClient;
+    // 분석 작업 서비스 -> 원고 서비스 -> 디스패처 순환 참조를 피하기 위해 지연 조회
+    private final ObjectProvider<EpisodeAnalysisJobService> analysisJobService;
+
+    private final Semaphore slots;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration staleAfter;
+    private final Duration sentRetention;
+
+    public EpisodeTextOutboxDispatcher(
+            EpisodeTextOutboxRepository outboxRepository,
+            ManuscriptCommandRepository manuscriptCommandRepository,
+            AiManuscriptClient aiManuscriptClient,
+            ObjectProvider<EpisodeAnalysisJobService> analysisJobService,
+            @Value("${episode-text-outbox.max-concurrent:4}") int maxConcurrent,
+            @Value("${episode-text-outbox.max-attempts:5}") int maxAttempts,
+            @Value("${episode-text-outbox.retry-delay:10s}") Duration retryDelay,
+            @Value("${episode-text-outbox.stale-after:5m}") Duration staleAfter,
+            @Value("${episode-text-outbox.sent-retention:1d}") Duration sentRetention) {
+        this.outboxRepository = outboxRepository;
+        this.manuscriptCommandRepository = manuscriptCommandRepository;
+        this.aiManuscriptClient = aiManuscriptClient;
+        this.analysisJobService = analysisJobService;
+        this.slots = new Semaphore(maxConcurrent);
+        // 폴링 태스크 1개 + 전송 슬롯만큼의 스레드
+        this.executor = Executors.newFixedThreadPool(maxConcurrent + 1, new CustomizableThreadFactory("text-outbox-"));
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.staleAfter = staleAfter;
+        this.sentRetention = sentRetention;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 디스패처를 깨움 (트랜잭션 밖이면 즉시)
+     * - afterCommit 시점에는 아직 기존 커넥션이 바인딩되어 있으므로 DB 작업은 디스패처 스레드로 넘긴다.
+     */
+    public void wakeUpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeUp();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeUp();
+            }
+        });
+    }
+
+    private void wakeUp() {
+        try {
+            executor.execute(this::poll);
+        } catch (Exception e) {
+            log.debug("아웃박스 디스패처 깨우기 실패 (주기 폴링으로 처리): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${episode-text-outbox.poll-interval-ms:5000}")
+    public void poll() {
+        while (slots.tryAcquire()) {
+            Long outboxId;
+            try {
+                outboxId = outboxRepository.claimNextPending(LocalDateTime.now());
+            } catch (Exception e) {
+                slots.release();
+                log.error("원문 아웃박스 선점 실패", e);
+                return;
+            }
+
+            if (outboxId == null) {
+                slots.release();
+                return;
+            }
+
+            executor.execute(() -> {
+                try {
+                    dispatch(outboxId);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+    }
+
+    private void dispatch(Long outboxId) {
+        EpisodeTextOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            String aiFilePath = aiManuscriptClient.saveNovelToAi(
+                    outbox.getEpisodeId(), outbox.getUserId(), outbox.getWorkId(), outbox.getEpNum(), outbox.getTxt())
+                    .block();
+
+            manuscriptCommandRepository.updateTxtPath(outbox.getEpisodeId(), aiFilePath);
+            outbox.markSent();
+            outboxRepository.save(outbox);
+
+        } catch (Exception e) {
+            if (outbox.getAttempt() < maxAttempts) {
+                log.warn("원문 AI 저장 재시도 예정: episodeId={}, attempt={}, error={}",
+                        outbox.getEpisodeId(), outbox.getAttempt(), e.getMessage());
+                // 재시도 간격은 시도 횟수에 비례해서 늘림
+                outbox.retryLater(e.getMessage(),
+                        LocalDateTime.now().plus(retryDelay.multipliedBy(outbox.getAttempt())));
+            } else {
+                log.error("원문 AI 저장 최종 실패: episodeId={}, outboxId={}", outbox.getEpisodeId(), outboxId, e);
+                outbox.markFailed(e.getMessage());
+            }
+            outboxRepository.save(outbox);
+
+            if (outbox.getStatus() == EpisodeTextOutbox.OutboxStatus.FAILED) {
+                failWaitingAnalysis(outbox.getEpisodeId());
+            }
+        }
+    }
+
+    // 이 텍스트를 기다리던 원문 분석 작업은 영영 선점되지 않으므로 실패 처리 + 작가 알림
+    private void failWaitingAnalysis(Long episodeId) {
+        try {
+            analysisJobService.ifAvailable(service -> service.failWaitingForText(episodeId));
+        } catch (Exception e) {
+            log.error("원문 저장 실패에 따른 분석 작업 실패 처리 중 예외 발생: episodeId={}", episodeId, e);
+        }
+    }
+
+    @Scheduled(initialDelay = 30000, fixedDelay = 60000)
+    public void recoverStale() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int requeued = outboxRepository.requeueStale(now.minus(staleAfter), now);
+            if (requeued > 0) {
+                log.warn("멈춘 원문 아웃박스 {}건을 재대기 처리했습니다.", requeued);
+            }
+            outboxRepository.deleteSentBefore(now.minus(sentRetention));
+        } catch (Exception e) {
+            log.error("멈춘 원문 아웃박스 복구 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.service;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.CategoryAnalysisRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.EpisodeAnalysisJobResponseDto;
+
+import java.time.Duration;
+
+/**
+ * 원문 분석(카테고리 추출 -> 설정집 충돌 검토) 비동기 작업 서비스
+ */
+public interface EpisodeAnalysisJobService {
+
+    // 분석 작업 등록 (같은 원문에 진행 중인 작업이 있으면 그 작업을 반환)
+    EpisodeAnalysisJobResponseDto submit(String userId, CategoryAnalysisRequestDto requestDto);
+
+    // 작업 상태/결과 조회 (폴링용)
+    EpisodeAnalysisJobResponseDto getJob(String userId, Long jobId);
+
+    // [워커] 대기 중인 작업 1건 선점, 없으면 null
+    Long claimNext();
+
+    // [워커] 선점한 작업 실행 (AI 호출 2단계)
+    void runJob(Long jobId);
+
+    // [아웃박스] 원문 텍스트 AI 저장이 최종 실패한 회차의 대기 작업 실패 처리 + 작가 알림
+    void failWaitingForText(Long episodeId);
+
+    // [워커] 처리 중으로 오래 멈춘 작업 재대기 (시도 횟수를 다 쓴 작업은 실패 처리)
+    int requeueStale(Duration staleAfter);
+}
@@ -0,0 +1,234 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.service;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.client.AiAnalysisClient;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.CategoryAnalysisRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.EpisodeAnalysisJobResponseDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.exception.EpisodeAccessDeniedException;
+import com.aivle.ai0917.ipai.domain.author.episodes.exception.EpisodeNotFoundException;
+import com.aivle.ai0917.ipai.domain.author.episodes.exception.EpisodeTextNotSavedException;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeAnalysisJob;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeAnalysisJob.JobStatus;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeTextOutbox.OutboxStatus;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.ManuscriptView;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.EpisodeAnalysisJobRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.EpisodeTextOutboxRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.ManuscriptRepository;
+import com.aivle.ai0917.ipai.domain.author.info.dto.AuthorNoticeDto;
+import com.aivle.ai0917.ipai.domain.author.info.service.AuthorNoticeService;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EpisodeAnalysisJobServiceImpl implements EpisodeAnalysisJobService {
+
+    private static final EnumSet<JobStatus> ACTIVE_STATUSES =
+            EnumSet.of(JobStatus.PENDING, JobStatus.EXTRACTING, JobStatus.CHECKING);
+
+    private final EpisodeAnalysisJobRepository jobRepository;
+    private final EpisodeTextOutboxRepository outboxRepository;
+    private final ManuscriptRepository manuscriptRepository;
+    private final ManuscriptService manuscriptService;
+    private final AuthorNoticeService authorNoticeService;
+    private final ObjectMapper objectMapper;
+
+    // AI 서버 차단(서킷 오픈/벌크헤드 포화) 시 재시도 횟수와 간격
+    @Value("${episode-analysis.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${episode-analysis.retry-delay:30s}")
+    private Duration retryDelay;
+
+    @Override
+    @Transactional
+    public EpisodeAnalysisJobResponseDto submit(String userId, CategoryAnalysisRequestDto requestDto) {
+        ManuscriptView manuscript = manuscriptRepository.findById(requestDto.getEpisodeId())
+                .orElseThrow(() -> new EpisodeNotFoundException("해당 원문을 찾을 수 없습니다. ID: " + requestDto.getEpisodeId()));
+
+        if (!manuscript.getUserId().equals(userId)) {
+            throw new EpisodeAccessDeniedException("본인의 원문만 분석할 수 있습니다.");
+        }
+
+        // 원문 텍스트가 AI 서버에 저장되지 못한 상태면 분석 불가 (저장 대기/전송 중이면 등록만 하고 워커가 저장 후 선점)
+        if (OutboxStatus.FAILED.name().equals(outboxRepository.findLatestStatusByEpisodeId(manuscript.getId()))) {
+            throw new EpisodeTextNotSavedException("원문 저장에 실패해 분석할 수 없습니다. 원문을 다시 저장해주세요.");
+        }
+
+        // 같은 원문에 진행 중인 작업이 있으면 새로 만들지 않음 (중복 클릭/재시도 대비, DB 유니크 인덱스로 보장)
+        Integer epNum = requestDto.getEpNum() != null ? requestDto.getEpNum() : manuscript.getEpisode();
+        String subtitle = requestDto.getSubtitle() != null ? requestDto.getSubtitle() : manuscript.getSubtitle();
+
+        EpisodeAnalysisJob job = null;
+        // 진행 중 작업이 조회 직전에 끝난 경우만 한 번 더 등록 시도
+        for (int i = 0; i < 2 && job == null; i++) {
+            Long newJobId = jobRepository.insertIfNoActiveJob(
+                    manuscript.getId(), manuscript.getWorkId(), userId, epNum, subtitle, LocalDateTime.now());
+            job = newJobId != null
+                    ? jobRepository.findById(newJobId).orElse(null)
+                    : jobRepository.findFirstByEpisodeIdAndStatusInOrderByIdDesc(manuscript.getId(), ACTIVE_STATUSES)
+                            .orElse(null);
+        }
+        if (job == null) {
+            throw new IllegalStateException("분석 작업을 등록하지 못했습니다. 다시 시도해주세요.");
+        }
+
+        log.info("원문 분석 작업 등록: jobId={}, episodeId={}, status={}",
+                job.getId(), job.getEpisodeId(), job.getStatus());
+        return EpisodeAnalysisJobResponseDto.of(job, objectMapper);
+    }
+
+    @Override
+    public EpisodeAnalysisJobResponseDto getJob(String userId, Long jobId) {
+        EpisodeAnalysisJob job = jobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> new EpisodeNotFoundException("분석 작업을 찾을 수 없습니다. ID: " + jobId));
+        return EpisodeAnalysisJobResponseDto.of(job, objectMapper);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long claimNext() {
+        return jobRepository.claimNextPending(LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int requeueStale(Duration staleAfter) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime threshold = now.minus(staleAfter);
+
+        // 시도 횟수를 다 쓴 작업은 다시 돌리지 않고 실패 처리
+        List<Long> failedIds = jobRepository.failStaleExhausted(
+                threshold, now, maxAttempts, "처리 중 응답이 없어 최대 시도 횟수(" + maxAttempts + ")를 초과했습니다.");
+        if (!failedIds.isEmpty()) {
+            log.warn("멈춘 원문 분석 작업 {}건을 실패 처리했습니다: {}", failedIds.size(), failedIds);
+            jobRepository.findAllById(failedIds).forEach(job ->
+                    sendJobNotice(job, "원문 분석 실패", job.getEpNum() + "화 원문 분석에 실패했습니다. 다시 시도해주세요."));
+        }
+
+        return jobRepository.requeueStale(threshold, now, maxAttempts);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void failWaitingForText(Long episodeId) {
+        List<Long> failedIds = jobRepository.failPendingByEpisodeId(
+                episodeId, LocalDateTime.now(), "원문 텍스트를 AI 서버에 저장하지 못했습니다.");
+        if (failedIds.isEmpty()) {
+            return;
+        }
+        log.warn("원문 저장 실패로 대기 중인 분석 작업 {}건을 실패 처리했습니다: episodeId={}, jobIds={}",
+                failedIds.size(), episodeId, failedIds);
+        jobRepository.findAllById(failedIds).forEach(job ->
+                sendJobNotice(job, "원문 분석 실패",
+                        job.getEpNum() + "화 원문 저장에 실패해 분석하지 못했습니다. 원문을 다시 저장한 뒤 분석해주세요."));
+    }
+
+    // AI 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (상태 변경은 save 단위로 즉시 커밋)
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void runJob(Long jobId) {
+        EpisodeAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.isFinished()) {
+            return;
+        }
+
+        log.info("원문 분석 작업 시작: jobId={}, episodeId={}, attempt={}", jobId, job.getEpisodeId(), job.getAttempt());
+
+        try {
+            execute(job);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 이 워커가 멈춘 것으로 보고 재대기/실패 처리된 뒤 다른 워커가 가져간 작업 -> 결과를 버림
+            log.warn("원문 분석 작업이 다른 워커로 넘어가 이 실행 결과를 버립니다: jobId={}", jobId);
+        }
+    }
+
+    private void execute(EpisodeAnalysisJob job) {
+        Long jobId = job.getId();
+        try {
+            // 1단계: 카테고리 추출 (재시도 시 이미 받은 결과가 있으면 재사용)
+            AiAnalysisClient.CategoryExtractionResponse categories = job.getCategoriesResult() != null
+                    ? objectMapper.readValue(job.getCategoriesResult(), AiAnalysisClient.CategoryExtractionResponse.class)
+                    : manuscriptService.extractCategories(job.getUserId(), toRequestDto(job)).block();
+
+            if (categories == null) {
+                throw new IllegalStateException("카테고리 추출 결과가 비어 있습니다.");
+            }
+            job.markChecking(toJson(categories));
+            job = jobRepository.save(job);
+
+            // 2단계: 설정집 충돌 검토
+            AiAnalysisClient.SettingConflictResponse conflicts =
+                    manuscriptService.checkSettingConflict(job.getWorkId(), job.getUserId(), categories).block();
+
+            job.markCompleted(toJson(conflicts));
+            jobRepository.save(job);
+
+            log.info("원문 분석 작업 완료: jobId={}", jobId);
+            sendJobNotice(job, "원문 분석 완료",
+                    job.getEpNum() + "화 원문 분석이 완료되었습니다. 설정집 충돌 결과를 확인해주세요.");
+
+        } catch (AiServiceUnavailableException e) {
+            if (job.getAttempt() < maxAttempts) {
+                log.warn("원문 분석 작업 재대기: jobId={}, attempt={}, reason={}", jobId, job.getAttempt(), e.getMessage());
+                job.requeue(e.getMessage(), LocalDateTime.now().plus(retryDelay));
+                jobRepository.save(job);
+            } else {
+                fail(job, e);
+            }
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            fail(job, e);
+        }
+    }
+
+    private void fail(EpisodeAnalysisJob job, Exception e) {
+        log.error("원문 분석 작업 실패: jobId={}, error={}", job.getId(), e.getMessage(), e);
+        job.markFailed(e.getMessage());
+        jobRepository.save(job);
+        sendJobNotice(job, "원문 분석 실패", job.getEpNum() + "화 원문 분석에 실패했습니다. 다시 시도해주세요.");
+    }
+
+    private CategoryAnalysisRequestDto toRequestDto(EpisodeAnalysisJob job) {
+        CategoryAnalysisRequestDto dto = new CategoryAnalysisRequestDto();
+        dto.setEpisodeId(job.getEpisodeId());
+        dto.setWorkId(job.getWorkId());
+        dto.setEpNum(job.getEpNum());
+        dto.setSubtitle(job.getSubtitle());
+        return dto;
+    }
+
+    private String toJson(Object value) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    // 완료/실패 알림 (기존 작가 알림 SSE 채널로 실시간 전달)
+    private void sendJobNotice(EpisodeAnalysisJob job, String title, String message) {
+        try {
+            authorNoticeService.sendNotice(
+                    job.getUserId(),
+                    AuthorNoticeDto.AuthorNoticeSource.WORK_PROCESS,
+                    title,
+                    message,
+                    "/works/" + job.getWorkId() + "/analysis/" + job.getId()
+            );
+        } catch (Exception e) {
+            log.error("분석 작업 알림 발송 중 예외 발생: jobId={}", job.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 원문 일괄 등록 파일 해석
+ * - 여러 개의 .txt 파일 또는 .txt 파일을 묶은 ZIP 하나를 받는다.
+ * - 파일명 앞의 숫자 기준으로 정렬 (1화, 2화, ..., 10화 순서 유지), 숫자가 없으면 파일명 순
+ * - 파일명에서 확장자와 회차 번호를 뗀 나머지를 소제목으로 사용
+ * - 압축 해제 크기는 선언값을 믿지 않고 실제로 읽은 바이트로 제한한다. (ZIP 폭탄 방지)
+ * - 텍스트 인코딩은 UTF-8, 아니면 CP949(윈도우 메모장 ANSI)로 해석하고 둘 다 아니면 거절
+ */
+final class ManuscriptImportParser {
+
+    record ImportedEpisode(String fileName, Integer order, String subtitle, String txt) {}
+
+    /**
+     * 해석 한도
+     * - maxFileBytes: 텍스트 파일(ZIP 안의 항목 포함) 1개의 최대 크기
+     * - maxTotalBytes: 요청 전체에서 읽는 텍스트 합계 최대 크기
+     * - maxZipEntries: ZIP 하나에서 살펴보는 최대 항목 수 (디렉터리/무시하는 파일 포함)
+     */
+    record Limits(long maxFileBytes, long maxTotalBytes, int maxZipEntries) {}
+
+    // 한도 초과/인코딩 오류 (ZIP 파일명 인코딩 재시도 대상과 구분)
+    static final class InvalidImportFileException extends IllegalArgumentException {
+        InvalidImportFileException(String message) {
+            super(message);
+        }
+    }
+
+    private static final Pattern LEADING_NUMBER = Pattern.compile("^\\s*(\\d+)\\s*(화|회|편)?[\\s._\\-)]*");
+    // 윈도우에서 만든 ZIP 파일명, 메모장 ANSI 저장 텍스트는 CP949인 경우가 많음
+    private static final Charset CP949 = Charset.forName("MS949");
+    private static final int READ_CHUNK = 8192;
+
+    private ManuscriptImportParser() {
+    }
+
+    static List<ImportedEpisode> parse(List<MultipartFile> files, Limits limits) throws IOException {
+        List<ImportedEpisode> episodes = new ArrayList<>();
+        long[] totalRead = {0};
+
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                continue;
+            }
+            String name = file.getOriginalFilename() != null ? file.getOriginalFilename() : "";
+
+            if (name.toLowerCase().endsWith(".zip")) {
+                // 압축 파일 자체 크기는 multipart 업로드 한도(spring.servlet.multipart)로 제한됨
+                byte[] zip = file.getBytes();
+                List<ImportedEpisode> fromZip = new ArrayList<>();
+                long before = totalRead[0];
+                try {
+                    readZip(zip, StandardCharsets.UTF_8, limits, totalRead, fromZip);
+                } catch (InvalidImportFileException e) {
+                    throw e;
+                } catch (IllegalArgumentException e) {
+                    // 파일명 디코딩 실패(MALFORMED) -> CP949로 다시 읽음
+                    fromZip.clear();
+                    totalRead[0] = before;
+                    readZip(zip, CP949, limits, totalRead, fromZip);
+                }
+                episodes.addAll(fromZip);
+            } else if (name.toLowerCase().endsWith(".txt")) {
+                try (InputStream in = file.getInputStream()) {
+                    episodes.add(toEpisode(name, decode(name, readBounded(in, name, limits, totalRead))));
+                }
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (.txt 또는 .zip): " + name);
+            }
+        }
+
+        episodes.sort(Comparator
+                .comparing(ImportedEpisode::order, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(ImportedEpisode::fileName));
+        return episodes;
+    }
+
+    private static void readZip(byte[] zip, Charset charset, Limits limits, long[] totalRead,
+                                List<ImportedEpisode> out) throws IOException {
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), charset)) {
+            ZipEntry entry;
+            int entries = 0;
+            while ((entry = in.getNextEntry()) != null) {
+                if (++entries > limits.maxZipEntries()) {
+                    throw new InvalidImportFileException(
+                            "ZIP 파일 안의 항목이 너무 많습니다. (최대 " + limits.maxZipEntries() + "개)");
+                }
+                String path = entry.getName();
+                if (entry.isDirectory() || path.startsWith("__MACOSX/") || !path.toLowerCase().endsWith(".txt")) {
+                    continue;
+                }
+                String fileName = path.substring(path.lastIndexOf('/') + 1);
+                if (fileName.startsWith(".")) {
+                    continue;
+                }
+                out.add(toEpisode(fileName, decode(fileName, readBounded(in, fileName, limits, totalRead))));
+            }
+        }
+    }
+
+    /**
+     * 파일 1개를 한도까지만 읽음 (한도를 넘는 순간 중단하고 거절)
+     */
+    private static byte[] readBounded(InputStream in, String fileName, Limits limits, long[] totalRead)
+            throws IOException {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        byte[] chunk = new byte[READ_CHUNK];
+        long fileRead = 0;
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            fileRead += n;
+            totalRead[0] += n;
+            if (fileRead > limits.maxFileBytes()) {
+                throw new InvalidImportFileException(
+                        "파일이 너무 큽니다. (최대 " + toMb(limits.maxFileBytes()) + "MB): " + fileName);
+            }
+            if (totalRead[0] > limits.maxTotalBytes()) {
+                throw new InvalidImportFileException(
+                        "등록할 원문 전체 크기가 너무 큽니다. (최대 " + toMb(limits.maxTotalBytes()) + "MB)");
+            }
+            buf.write(chunk, 0, n);
+        }
+        return buf.toByteArray();
+    }
+
+    /**
+     * UTF-8로 엄격하게 해석하고, 깨지면 CP949로 다시 해석 (둘 다 아니면 거절)
+     */
+    static String decode(String fileName, byte[] bytes) {
+        try {
+            return strictDecode(bytes, StandardCharsets.UTF_8);
+        } catch (CharacterCodingException notUtf8) {
+            try {
+                return strictDecode(bytes, CP949);
+            } catch (CharacterCodingException notCp949) {
+                throw new InvalidImportFileException(
+                        "텍스트 인코딩을 알 수 없습니다. UTF-8 또는 CP949(ANSI)로 저장해주세요: " + fileName);
+            }
+        }
+    }
+
+    private static String strictDecode(byte[] bytes, Charset charset) throws CharacterCodingException {
+        return charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(bytes))
+                .toString();
+    }
+
+    private static long toMb(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+
+    private static ImportedEpisode toEpisode(String fileName, String txt) {
+        String baseName = fileName.substring(0, fileName.length() - ".txt".length());
+
+        Integer order = null;
+        String subtitle = baseName;
+        Matcher m = LEADING_NUMBER.matcher(baseName);
+        if (m.find()) {
+            try {
+                order = Integer.parseInt(m.group(1));
+            } catch (NumberFormatException ignored) {
+                // 너무 긴 숫자는 정렬 키로 쓰지 않음
+            }
+            subtitle = baseName.substring(m.end());
+        }
+
+        // UTF-8 BOM 제거
+        if (!txt.isEmpty() && txt.charAt(0) == '\uFEFF') {
+            txt = txt.substring(1);
+        }
+        return new ImportedEpisode(fileName, order, subtitle.isBlank() ? null : subtitle.trim(), txt);
+    }
+}
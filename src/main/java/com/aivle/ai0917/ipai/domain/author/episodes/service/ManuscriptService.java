@@ -2,11 +2,17 @@ package com.aivle.ai0917.ipai.domain.author.episodes.service;
 
 import com.aivle.ai0917.ipai.domain.author.episodes.client.AiAnalysisClient;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.CategoryAnalysisRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptImportResponseDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptRequestDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptResponseDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptUpdateRequestDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface ManuscriptService {
 
@@ -14,7 +20,11 @@ public interface ManuscriptService {
             String userId, String title, String keyword, Pageable pageable
     );
 
-    ManuscriptResponseDto getManuscriptDetail(Long id);
+    // [변경] AI 원문 읽기를 기다리는 동안 요청 스레드를 점유하지 않도록 Mono 반환
+    Mono<ManuscriptResponseDto> getManuscriptDetail(Long id);
+
+    // [추가] 원문 텍스트만 응답으로 바로 흘려보내는 스트리밍 조회 (긴 회차용)
+    StreamingResponseBody streamManuscriptText(Long id);
 
 //    Long uploadManuscript(ManuscriptRequestDto request);
 
@@ -23,12 +33,18 @@ public interface ManuscriptService {
 
     Long modifyManuscriptText(ManuscriptRequestDto request);
 
+    // [추가] 원문 일괄 등록 (txt 여러 개 또는 zip) - AI 저장은 아웃박스로 병렬 처리
+    ManuscriptImportResponseDto importManuscripts(String userId, String title, Long workId, List<MultipartFile> files);
+
+    // [추가] 일괄 등록 진행률 조회
+    ManuscriptImportResponseDto getImportProgress(String userId, String importId);
+
     // [수정] 개별 파라미터 대신 DTO 사용
-    AiAnalysisClient.CategoryExtractionResponse extractCategories(
+    Mono<AiAnalysisClient.CategoryExtractionResponse> extractCategories(
             String userId, CategoryAnalysisRequestDto requestDto
     );
 
-    AiAnalysisClient.SettingConflictResponse checkSettingConflict(
+    Mono<AiAnalysisClient.SettingConflictResponse> checkSettingConflict(
             Long workId, String userId, AiAnalysisClient.CategoryExtractionResponse categories
     );
 
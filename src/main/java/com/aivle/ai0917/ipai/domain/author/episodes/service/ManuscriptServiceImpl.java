@@ -3,27 +3,45 @@ package com.aivle.ai0917.ipai.domain.author.episodes.service;
 import com.aivle.ai0917.ipai.domain.author.episodes.client.AiAnalysisClient;
 import com.aivle.ai0917.ipai.domain.author.episodes.client.AiManuscriptClient;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.CategoryAnalysisRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptImportResponseDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptRequestDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptResponseDto;
 import com.aivle.ai0917.ipai.domain.author.episodes.dto.ManuscriptUpdateRequestDto;
+import com.aivle.ai0917.ipai.domain.author.episodes.exception.EpisodeNumberChangeNotAllowedException;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeTextOutbox;
 import com.aivle.ai0917.ipai.domain.author.episodes.model.ManuscriptView;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.EpisodeTextOutboxRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.ManuscriptBatchRepository;
 import com.aivle.ai0917.ipai.domain.author.episodes.repository.ManuscriptCommandRepository;
 import com.aivle.ai0917.ipai.domain.author.episodes.repository.ManuscriptRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.repository.WorkEpisodeCounterRepository;
+import com.aivle.ai0917.ipai.domain.author.episodes.scheduler.EpisodeTextOutboxDispatcher;
 import com.aivle.ai0917.ipai.domain.author.works.model.Work;
 import com.aivle.ai0917.ipai.domain.author.works.model.WorkStatus;
 import com.aivle.ai0917.ipai.domain.author.works.repository.WorkCommandRepository;
 import com.aivle.ai0917.ipai.domain.author.works.repository.WorkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation; // [중요] 추가
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -36,6 +54,24 @@ public class ManuscriptServiceImpl implements ManuscriptService {
     private final ManuscriptCommandRepository manuscriptCommandRepository;
     private final AiManuscriptClient aiManuscriptClient;
     private final AiAnalysisClient aiAnalysisClient;
+    private final EpisodeTextOutboxRepository episodeTextOutboxRepository;
+    private final EpisodeTextOutboxDispatcher episodeTextOutboxDispatcher;
+    private final ManuscriptBatchRepository manuscriptBatchRepository;
+    private final WorkEpisodeCounterRepository workEpisodeCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${manuscript.import.max-episodes:500}")
+    private int maxImportEpisodes;
+
+    // 압축 해제 후 텍스트 크기/ZIP 항목 수 한도 (ZIP 폭탄 방지)
+    @Value("${manuscript.import.max-file-size:5MB}")
+    private DataSize maxImportFileSize;
+
+    @Value("${manuscript.import.max-total-size:100MB}")
+    private DataSize maxImportTotalSize;
+
+    @Value("${manuscript.import.max-zip-entries:2000}")
+    private int maxImportZipEntries;
 
     private final WorkRepository workRepository;
     private final WorkCommandRepository workCommandRepository;
@@ -48,22 +84,55 @@ public class ManuscriptServiceImpl implements ManuscriptService {
                 ? manuscriptRepository.findByUserIdAndTitle(userId, title, pageable)
                 : manuscriptRepository.findByUserIdAndTitleAndTitleContaining(userId, title, keyword, pageable);
 
-        return page.map(ManuscriptResponseDto::new);
+        Map<Long, Long> displayNumbers = findDisplayNumbers(page.getContent());
+        return page.map(v -> new ManuscriptResponseDto(v, displayNumbers.get(v.getId())));
+    }
+
+    // 조회한 회차들의 화면 표시용 회차 번호 (작품 내 ep_num 순위), 한 번의 쿼리로 계산
+    private Map<Long, Long> findDisplayNumbers(List<ManuscriptView> manuscripts) {
+        if (manuscripts.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> workIds = new HashSet<>();
+        List<Long> ids = new ArrayList<>(manuscripts.size());
+        for (ManuscriptView m : manuscripts) {
+            workIds.add(m.getWorkId());
+            ids.add(m.getId());
+        }
+
+        Map<Long, Long> displayNumbers = new HashMap<>();
+        for (ManuscriptRepository.DisplayNumberView row : manuscriptRepository.findDisplayNumbers(workIds, ids)) {
+            displayNumbers.put(row.getId(), row.getDisplayNumber());
+        }
+        return displayNumbers;
     }
 
     @Override
-    public ManuscriptResponseDto getManuscriptDetail(Long id) {
-        // 클래스 레벨의 readOnly = true가 적용됨
+    public Mono<ManuscriptResponseDto> getManuscriptDetail(Long id) {
+        // 클래스 레벨의 readOnly = true가 적용됨 (DB 조회까지만 트랜잭션 범위)
         ManuscriptView manuscript = manuscriptRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("해당 원문을 찾을 수 없습니다. ID: " + id));
+        Long displayNumber = findDisplayNumbers(List.of(manuscript)).get(manuscript.getId());
 
-        String txt = aiManuscriptClient.readNovelFromAi(
+        return aiManuscriptClient.readNovelFromAi(
+                        manuscript.getUserId(),
+                        manuscript.getWorkId(),
+                        manuscript.getEpisode())
+                .map(txt -> new ManuscriptResponseDto(manuscript, displayNumber, txt));
+    }
+
+    @Override
+    public StreamingResponseBody streamManuscriptText(Long id) {
+        // 존재 여부는 응답 커밋 전에 확인 (스트리밍 시작 후에는 404로 바꿀 수 없음)
+        ManuscriptView manuscript = manuscriptRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("해당 원문을 찾을 수 없습니다. ID: " + id));
+
+        return out -> aiManuscriptClient.streamNovelFromAi(
                 manuscript.getUserId(),
                 manuscript.getWorkId(),
-                manuscript.getEpisode()
+                manuscript.getEpisode(),
+                out
         );
-
-        return new ManuscriptResponseDto(manuscript, txt);
     }
 
 
@@ -73,27 +142,31 @@ public class ManuscriptServiceImpl implements ManuscriptService {
     public Long createManuscript(ManuscriptRequestDto request) {
         log.info("원문 신규 생성 요청: userId={}, workId={}", request.getUserId(), request.getWorkId());
 
-        if (request.getEpisode() == null || request.getEpisode() == 0) {
-            Integer maxEp = manuscriptRepository.findMaxEpisodeByWorkId(request.getWorkId());
-            int nextEp = (maxEp == null) ? 1 : maxEp + 1;
-            request.setEpisode(nextEp);
-        }
+        boolean autoEpisode = request.getEpisode() == null || request.getEpisode() == 0;
+
+        // 회차 중복(삭제된 회차 포함) / 분석 대기 여부를 한 번의 쿼리로 확인
+        ManuscriptRepository.UploadPrecheck precheck = manuscriptRepository.findUploadPrecheck(
+                request.getWorkId(), autoEpisode ? 0 : request.getEpisode());
 
-        boolean exists = manuscriptRepository.findByWorkIdAndEpisode(
-                request.getWorkId(), request.getEpisode()).isPresent();
-        if (exists) {
-            throw new IllegalStateException("이미 존재하는 회차입니다. 수정(Update) API를 이용해주세요.");
+        if (!autoEpisode && Boolean.TRUE.equals(precheck.getEpisodeExists())) {
+            throw new IllegalStateException("이미 존재하거나 삭제된 회차 번호입니다. 다른 회차 번호를 사용해주세요.");
         }
 
-        boolean hasPendingAnalysis = manuscriptRepository.existsByWorkIdAndIsReadOnlyFalse(request.getWorkId());
-        if (hasPendingAnalysis) {
+        if (Boolean.TRUE.equals(precheck.getPendingAnalysis())) {
             log.warn("업로드 차단: 작품 ID {}에 분석 중인 에피소드가 존재합니다.", request.getWorkId());
             throw new IllegalStateException("이전 원고의 분석이 완료되지 않아 새로운 원고를 업로드할 수 없습니다.");
         }
 
+        // 회차 번호는 작품별 카운터로 발급 (영구 삭제 후에도 이전 번호를 다시 쓰지 않음)
+        if (autoEpisode) {
+            request.setEpisode(workEpisodeCounterRepository.advance(request.getWorkId(), 0, 1));
+        } else {
+            workEpisodeCounterRepository.advance(request.getWorkId(), request.getEpisode(), 0);
+        }
+
         int wordCount = (request.getTxt() != null) ? request.getTxt().length() : 0;
 
-        manuscriptCommandRepository.insert(
+        Long episodeId = manuscriptCommandRepository.insert(
                 request.getUserId(),
                 request.getWorkId(),
                 request.getTitle(),
@@ -103,18 +176,7 @@ public class ManuscriptServiceImpl implements ManuscriptService {
                 wordCount
         );
 
-        ManuscriptView savedManuscript = manuscriptRepository
-                .findByUserIdAndTitle(request.getUserId(), request.getTitle(), Pageable.unpaged())
-                .stream()
-                .filter(m -> m.getEpisode().equals(request.getEpisode())
-                        && m.getWorkId().equals(request.getWorkId()))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException("저장된 원문을 찾을 수 없습니다."));
-
-        Long episodeId = savedManuscript.getId();
-
-        // 주의: AI 파일 저장이 오래 걸릴 경우 여기서도 병목이 생길 수 있음.
-        // 하지만 create는 데이터 정합성이 중요하므로 Transaction 안에서 수행하는 것이 일반적임.
+        // AI 파일 저장은 아웃박스에 적어두고 커밋 후 디스패처가 수행 (txt_path는 저장 완료 시 갱신)
         processAiFileSave(episodeId, request);
         updateWorkStatusToOngoingIfNeeded(request.getWorkId());
 
@@ -137,7 +199,6 @@ public class ManuscriptServiceImpl implements ManuscriptService {
         manuscriptCommandRepository.updateManuscript(
                 episodeId,
                 request.getSubtitle(),
-                request.getEpisode(),
                 null,
                 wordCount
         );
@@ -147,11 +208,111 @@ public class ManuscriptServiceImpl implements ManuscriptService {
         return episodeId;
     }
 
+    /**
+     * [추가] 원문 일괄 등록
+     * - 파일 해석은 트랜잭션 밖에서 (큰 ZIP을 읽는 동안 커넥션을 잡지 않도록)
+     * - 회차 INSERT 1회 + 아웃박스 batch INSERT를 짧은 트랜잭션 하나로 묶고, AI 저장은 디스패처가 병렬로 수행
+     * - 등록한 회차들은 모두 분석 대기(is_read_only = false)가 되므로, 회차별 분석 작업도 같은 트랜잭션에서 회차 순서대로 등록한다.
+     *   (작가가 회차마다 분석을 요청하지 않아도 워커가 앞 회차부터 차례로 분석하고 완료 알림을 보냄)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ManuscriptImportResponseDto importManuscripts(
+            String userId, String title, Long workId, List<MultipartFile> files) {
+
+        List<ManuscriptImportParser.ImportedEpisode> parsed;
+        try {
+            parsed = ManuscriptImportParser.parse(files, new ManuscriptImportParser.Limits(
+                    maxImportFileSize.toBytes(), maxImportTotalSize.toBytes(), maxImportZipEntries));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("등록할 원문(.txt)이 없습니다.");
+        }
+        if (parsed.size() > maxImportEpisodes) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 회차는 최대 " + maxImportEpisodes + "개입니다.");
+        }
+
+        log.info("원문 일괄 등록 요청: userId={}, workId={}, count={}", userId, workId, parsed.size());
+
+        return transactionTemplate.execute(status -> {
+            ManuscriptRepository.UploadPrecheck precheck = manuscriptRepository.findUploadPrecheck(workId, 0);
+            if (Boolean.TRUE.equals(precheck.getPendingAnalysis())) {
+                throw new IllegalStateException("이전 원고의 분석이 완료되지 않아 새로운 원고를 업로드할 수 없습니다.");
+            }
+
+            int lastEp = workEpisodeCounterRepository.advance(workId, 0, parsed.size());
+            int nextEp = lastEp - parsed.size() + 1;
+            List<ManuscriptBatchRepository.EpisodeRow> rows = new ArrayList<>(parsed.size());
+            for (ManuscriptImportParser.ImportedEpisode ep : parsed) {
+                rows.add(new ManuscriptBatchRepository.EpisodeRow(nextEp++, ep.subtitle(), ep.txt()));
+            }
+
+            Map<Integer, Long> episodeIds = manuscriptBatchRepository.insertEpisodes(userId, workId, title, rows);
+
+            String importId = UUID.randomUUID().toString();
+            manuscriptBatchRepository.insertOutbox(importId, userId, workId, rows, episodeIds);
+            manuscriptBatchRepository.insertAnalysisJobs(userId, workId, rows, episodeIds);
+            episodeTextOutboxDispatcher.wakeUpAfterCommit();
+
+            updateWorkStatusToOngoingIfNeeded(workId);
+
+            List<ManuscriptImportResponseDto.Item> items = rows.stream()
+                    .map(row -> ManuscriptImportResponseDto.Item.builder()
+                            .episodeId(episodeIds.get(row.epNum()))
+                            .epNum(row.epNum())
+                            .subtitle(row.subtitle())
+                            .status(EpisodeTextOutbox.OutboxStatus.PENDING.name())
+                            .build())
+                    .toList();
+            return ManuscriptImportResponseDto.of(importId, items);
+        });
+    }
+
+    @Override
+    public ManuscriptImportResponseDto getImportProgress(String userId, String importId) {
+        List<EpisodeTextOutboxRepository.ImportItemView> views =
+                episodeTextOutboxRepository.findImportItems(importId, userId);
+
+        if (views.isEmpty()) {
+            throw new RuntimeException("일괄 등록 내역을 찾을 수 없습니다. ID: " + importId);
+        }
+
+        List<ManuscriptImportResponseDto.Item> items = views.stream()
+                .map(v -> ManuscriptImportResponseDto.Item.builder()
+                        .episodeId(v.getEpisodeId())
+                        .epNum(v.getEpNum())
+                        .subtitle(v.getSubtitle())
+                        .status(v.getStatus())
+                        .error(v.getLastError())
+                        .build())
+                .toList();
+        return ManuscriptImportResponseDto.of(importId, items);
+    }
+
     private void processAiFileSave(Long episodeId, ManuscriptRequestDto request) {
-        String aiFilePath = aiManuscriptClient.saveNovelToAi(
-                episodeId, request.getUserId(), request.getWorkId(), request.getEpisode(), request.getTxt());
+        enqueueTextSave(episodeId, request.getUserId(), request.getWorkId(), request.getEpisode(), request.getTxt());
+    }
 
-        manuscriptCommandRepository.updateTxtPath(episodeId, aiFilePath);
+    /**
+     * [아웃박스] AI 서버 원문 저장 예약
+     * - 회차 row 변경과 같은 트랜잭션에 기록되므로, 롤백되면 저장 요청도 함께 사라진다.
+     * - 같은 저장 키(userId, workId, epNum)의 아직 보내지 않은 텍스트는 최신 텍스트로 대체한다.
+     * - 원문 저장은 모두 이 경로를 거쳐야 회차별 저장 순서가 보장된다.
+     */
+    private void enqueueTextSave(Long episodeId, String userId, Long workId, Integer epNum, String txt) {
+        episodeTextOutboxRepository.deletePendingByKey(userId, workId, epNum);
+        episodeTextOutboxRepository.save(EpisodeTextOutbox.builder()
+                .episodeId(episodeId)
+                .userId(userId)
+                .workId(workId)
+                .epNum(epNum)
+                .txt(txt != null ? txt : "")
+                .build());
+
+        episodeTextOutboxDispatcher.wakeUpAfterCommit();
     }
 
 
@@ -161,7 +322,7 @@ public class ManuscriptServiceImpl implements ManuscriptService {
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public AiAnalysisClient.CategoryExtractionResponse extractCategories(
+    public Mono<AiAnalysisClient.CategoryExtractionResponse> extractCategories(
             String userId, CategoryAnalysisRequestDto requestDto) {
 
         log.info("카테고리 추출 시작(DB 트랜잭션 없음): workId={}, epNum={}",
@@ -175,17 +336,13 @@ public class ManuscriptServiceImpl implements ManuscriptService {
                         .subtitle(requestDto.getSubtitle())
                         .build();
 
-        // 여기서 시간이 오래 걸려도 DB 커넥션은 점유하지 않음
-        AiAnalysisClient.CategoryExtractionResponse response =
-                aiAnalysisClient.extractCategories(requestDto.getEpisodeId(), clientRequest);
-
-        log.info("카테고리 추출 완료");
-        return response;
+        // 여기서 시간이 오래 걸려도 DB 커넥션은 물론 요청 스레드도 점유하지 않음
+        return aiAnalysisClient.extractCategories(requestDto.getEpisodeId(), clientRequest);
     }
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public AiAnalysisClient.SettingConflictResponse checkSettingConflict(
+    public Mono<AiAnalysisClient.SettingConflictResponse> checkSettingConflict(
             Long workId, String userId, AiAnalysisClient.CategoryExtractionResponse categories) {
 
         log.info("설정집 충돌 검토 시작(DB 트랜잭션 없음): workId={}", workId);
@@ -207,11 +364,7 @@ public class ManuscriptServiceImpl implements ManuscriptService {
                         .build();
 
         // 여기서 30초 이상 걸려도 HikariPool 에러가 발생하지 않음
-        AiAnalysisClient.SettingConflictResponse response =
-                aiAnalysisClient.checkSettingConflict(workId, request);
-
-        log.info("설정집 충돌 검토 완료");
-        return response;
+        return aiAnalysisClient.checkSettingConflict(workId, request);
     }
 
     // =========================================================================
@@ -226,19 +379,15 @@ public class ManuscriptServiceImpl implements ManuscriptService {
         }
 
         Long workId = view.getWorkId();
-        Integer deletedEpNum = view.getEpisode();
 
-        try {
-            aiManuscriptClient.saveNovelToAi(
-                    view.getId(), view.getUserId(), view.getWorkId(), view.getEpisode(), "");
-        } catch (Exception e) {
-            log.warn("원문 파일 내용 비우기 실패: {}", e.getMessage());
-        }
+        // 원문 파일 내용 비우기도 아웃박스로 (대기 중이던 이전 텍스트 저장은 취소됨)
+        enqueueTextSave(view.getId(), view.getUserId(), view.getWorkId(), view.getEpisode(), "");
 
         int deleted = manuscriptCommandRepository.deleteById(id);
 
+        // [변경] 이후 회차 ep_num을 당기지 않음 (ep_num = AI 저장 키 / 설정집 참조 키이므로 고정)
+        // 화면 표시 번호는 조회 시 ep_num 순위(findDisplayNumbers)로 계산되므로 빈 번호가 생겨도 1, 2, 3... 으로 보임
         if (deleted > 0) {
-            manuscriptCommandRepository.reorderEpisodesAfterDeletion(workId, deletedEpNum);
             revertWorkStatusToNewIfEmpty(workId);
         }
     }
@@ -265,18 +414,22 @@ public class ManuscriptServiceImpl implements ManuscriptService {
         ManuscriptView existing = manuscriptRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("수정할 원문을 찾을 수 없습니다."));
 
-        String newTxtPath = null;
+        // ep_num은 AI 서버 원문 저장 키이자 분석 작업/설정집이 참조하는 키라서 등록 후에는 바꿀 수 없음
+        // (화면의 회차 번호는 ep_num 순위로 계산되므로 번호를 당기기 위해 바꿀 필요도 없음)
+        if (request.getEpNum() != null && !request.getEpNum().equals(existing.getEpisode())) {
+            throw new EpisodeNumberChangeNotAllowedException("등록된 원문의 회차 번호는 변경할 수 없습니다.");
+        }
+
         Integer newWordCount = null;
 
         if (request.getTxt() != null) {
-            Integer targetEpisode = (request.getEpNum() != null) ? request.getEpNum() : existing.getEpisode();
-            newTxtPath = aiManuscriptClient.saveNovelToAi(
-                    existing.getId(), existing.getUserId(), existing.getWorkId(), targetEpisode, request.getTxt());
+            // txt_path는 디스패처가 저장 완료 후 갱신
+            enqueueTextSave(existing.getId(), existing.getUserId(), existing.getWorkId(), existing.getEpisode(), request.getTxt());
             newWordCount = request.getTxt().length();
         }
 
         int updated = manuscriptCommandRepository.updateManuscript(
-                id, request.getSubtitle(), request.getEpNum(), newTxtPath, newWordCount);
+                id, request.getSubtitle(), null, newWordCount);
 
         if (updated == 0) {
             throw new RuntimeException("원문 수정에 실패했습니다.");
@@ -6,16 +6,14 @@ import com.aivle.ai0917.ipai.domain.author.info.model.AuthorNotice;
 import com.aivle.ai0917.ipai.domain.author.info.repository.AuthorNoticeRepository;
 import com.aivle.ai0917.ipai.domain.user.model.User;
 import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
+import com.aivle.ai0917.ipai.global.sse.SseHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,24 +25,16 @@ public class AuthorNoticeServiceImpl implements AuthorNoticeService {
     private final UserRepository userRepository; // [추가] ID 조회를 위해 필요
 
     // 내부적으로는 여전히 Long PK를 Key로 사용하는 것이 관리상 안전합니다.
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private static final long SSE_TIMEOUT = 60 * 60 * 1000L;
+    // SSE 연결 관리 (공통 허브, 전송은 허브 전용 스레드에서 수행)
+    private final SseHub sseHub;
+    private static final String SSE_CHANNEL = "author";
 
     @Override
     public SseEmitter subscribe(String integrationId) {
         Long authorId = findAuthorIdByIntegrationId(integrationId);
 
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        emitters.put(authorId, emitter);
-
-        // 타임아웃/완료/에러 시 제거 로직
-        emitter.onCompletion(() -> emitters.remove(authorId));
-        emitter.onTimeout(() -> emitters.remove(authorId));
-        emitter.onError((e) -> emitters.remove(authorId));
-
         // 연결 즉시 더미 데이터 전송 (503 에러 방지 및 연결 확인용)
-        sendToClient(authorId, "connected", "SSE Connected [" + integrationId + "]");
-        return emitter;
+        return sseHub.subscribe(SSE_CHANNEL, String.valueOf(authorId), "SSE Connected [" + integrationId + "]");
     }
 
     @Override
@@ -69,11 +59,9 @@ public class AuthorNoticeServiceImpl implements AuthorNoticeService {
                 .redirectUrl(url)
                 .build());
 
-        // 2. 실시간 전송
-        if (emitters.containsKey(authorId)) {
-            AuthorNoticeDto dto = convertToDto(notice);
-            sendToClient(authorId, "author-notice", dto);
-        }
+        // 2. 실시간 전송 (다른 인스턴스에 연결되어 있을 수 있으므로 연결 여부와 무관하게 발행)
+        AuthorNoticeDto dto = convertToDto(notice);
+        sseHub.send(SSE_CHANNEL, String.valueOf(authorId), "author-notice", dto);
     }
 
     @Override
@@ -126,17 +114,6 @@ public class AuthorNoticeServiceImpl implements AuthorNoticeService {
         return user.getId();
     }
 
-    private void sendToClient(Long authorId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(authorId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event().name(eventName).data(data));
-            } catch (IOException e) {
-                emitters.remove(authorId);
-            }
-        }
-    }
-
     private AuthorNoticeDto convertToDto(AuthorNotice entity) {
         return AuthorNoticeDto.builder()
                 .id(entity.getId())
@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "invite_codes")
+@Table(name = "invite_codes", indexes = {
+        @Index(name = "idx_invite_codes_author", columnList = "author_integration_id, used_at"),
+        @Index(name = "idx_invite_codes_expires_at", columnList = "expires_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
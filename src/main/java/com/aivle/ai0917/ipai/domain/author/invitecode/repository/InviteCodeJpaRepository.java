@@ -56,6 +56,7 @@ import com.aivle.ai0917.ipai.domain.author.invitecode.model.InviteCode;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -65,22 +66,67 @@ public interface InviteCodeJpaRepository extends JpaRepository<InviteCode, Long>
 
     Optional<InviteCode> findByCode(String code);
 
-    Optional<InviteCode> findTopByAuthorIntegrationIdAndUsedAtIsNullOrderByCreatedAtDesc(String authorIntegrationId);
+    /**
+     * ✅ 재발급 시 작가의 기존 활성 코드 전부 무효화(used 처리)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE invite_codes
+           SET used_at = :now
+         WHERE author_integration_id = :authorIntegrationId
+           AND used_at IS NULL
+        """, nativeQuery = true)
+    int invalidateActiveCodes(@Param("authorIntegrationId") String authorIntegrationId,
+                              @Param("now") LocalDateTime now);
 
-    boolean existsByCode(String code);
+    /**
+     * ✅ 후보 코드(쉼표 구분) 중 아직 없는 코드 1개를 골라 바로 저장 (조회 + 저장을 한 문장으로)
+     * - 동시에 같은 코드를 고른 경우는 ON CONFLICT로 건너뜀 -> null 반환, 호출한 쪽에서 새 후보로 재시도
+     * - 성공: 저장된 코드
+     */
+    @Transactional
+    @Query(value = """
+        WITH candidate AS (
+            SELECT c.code
+            FROM unnest(string_to_array(:candidates, ',')) AS c(code)
+            WHERE NOT EXISTS (SELECT 1 FROM invite_codes ic WHERE ic.code = c.code)
+            LIMIT 1
+        )
+        INSERT INTO invite_codes (code, author_integration_id, expires_at, created_at)
+        SELECT code, :authorIntegrationId, :expiresAt, :now
+        FROM candidate
+        ON CONFLICT (code) DO NOTHING
+        RETURNING code
+        """, nativeQuery = true)
+    String insertFirstAvailable(@Param("candidates") String candidates,
+                                @Param("authorIntegrationId") String authorIntegrationId,
+                                @Param("expiresAt") LocalDateTime expiresAt,
+                                @Param("now") LocalDateTime now);
 
     /**
      * ✅ 원자적으로 "유효한 코드"를 사용 처리 (동시에 여러 명이 입력해도 1명만 성공)
-     * 성공: 1, 실패: 0
+     * 성공: 작가 authorIntegrationId, 실패: null
+     */
+    @Transactional
+    @Query(value = """
+        UPDATE invite_codes
+           SET used_at = :now
+         WHERE code = :code
+           AND used_at IS NULL
+           AND expires_at > :now
+        RETURNING author_integration_id
+        """, nativeQuery = true)
+    String consumeIfValid(@Param("code") String code, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료/사용된 지 오래된 코드 정리 (코드 공간 6자리를 계속 재사용할 수 있도록)
      */
     @Modifying
-    @Query("""
-        UPDATE InviteCode ic
-           SET ic.usedAt = :now
-         WHERE ic.code = :code
-           AND ic.usedAt IS NULL
-           AND ic.expiresAt > :now
-    """)
-    int consumeIfValid(@Param("code") String code, @Param("now") LocalDateTime now);
+    @Transactional
+    @Query(value = """
+        DELETE FROM invite_codes
+         WHERE expires_at < :threshold
+            OR used_at < :threshold
+        """, nativeQuery = true)
+    int deleteExpiredBefore(@Param("threshold") LocalDateTime threshold);
 }
-
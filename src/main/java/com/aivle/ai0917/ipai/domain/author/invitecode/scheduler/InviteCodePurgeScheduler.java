@@ -0,0 +1,40 @@
+package com.aivle.ai0917.ipai.domain.author.invitecode.scheduler;
+
+import com.aivle.ai0917.ipai.domain.author.invitecode.repository.InviteCodeJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료/사용된 초대 코드 정리
+ * - code 컬럼이 유니크라서 지난 코드가 쌓이면 6자리 코드 공간이 점점 차고 발급 충돌이 늘어난다.
+ * - 사용 직후 "이미 사용된 코드" 안내를 위해 retention 동안은 남겨둔다.
+ * - 여러 인스턴스에서 동시에 돌아도 같은 DELETE라 문제 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodePurgeScheduler {
+
+    private final InviteCodeJpaRepository inviteCodeRepository;
+
+    @Value("${invite-code.purge.retention:1d}")
+    private Duration retention;
+
+    @Scheduled(initialDelay = 60000, fixedDelayString = "${invite-code.purge.interval-ms:3600000}")
+    public void purgeExpired() {
+        try {
+            int deleted = inviteCodeRepository.deleteExpiredBefore(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.info("만료된 초대 코드 {}건 삭제", deleted);
+            }
+        } catch (Exception e) {
+            log.error("만료된 초대 코드 정리 실패", e);
+        }
+    }
+}
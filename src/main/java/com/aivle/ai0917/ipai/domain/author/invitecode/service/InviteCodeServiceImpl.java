@@ -85,7 +85,6 @@ public class InviteCodeServiceImpl implements InviteCodeService {
 package com.aivle.ai0917.ipai.domain.author.invitecode.service;
 
 import com.aivle.ai0917.ipai.domain.admin.access.model.UserRole;
-import com.aivle.ai0917.ipai.domain.author.invitecode.model.InviteCode;
 import com.aivle.ai0917.ipai.domain.author.invitecode.repository.InviteCodeJpaRepository;
 import com.aivle.ai0917.ipai.domain.user.model.User;
 import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
@@ -95,11 +94,16 @@ import org.springframework.transaction.annotation.Transactional;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.StringJoiner;
 
 @Service
 @Transactional(readOnly = true)
 public class InviteCodeServiceImpl implements InviteCodeService {
 
+    // 한 번에 시도하는 후보 코드 수 / 동시 발급 충돌 시 재시도 횟수
+    private static final int CANDIDATES_PER_ATTEMPT = 16;
+    private static final int MAX_ATTEMPTS = 5;
+
     private final UserRepository userRepository;
     private final InviteCodeJpaRepository inviteCodeRepository; // ✅ 변경
     private final SecureRandom random = new SecureRandom();
@@ -125,29 +129,23 @@ public class InviteCodeServiceImpl implements InviteCodeService {
         }
 
         String authorIntegrationId = author.getIntegrationId();
+        LocalDateTime now = LocalDateTime.now();
 
         // ✅ 재발급이면 기존 활성 코드(used_at=null) 무효화(used 처리)
-        inviteCodeRepository.findTopByAuthorIntegrationIdAndUsedAtIsNullOrderByCreatedAtDesc(authorIntegrationId)
-                .ifPresent(old -> {
-                    old.setUsedAt(LocalDateTime.now());
-                    inviteCodeRepository.save(old);
-                });
+        inviteCodeRepository.invalidateActiveCodes(authorIntegrationId, now);
 
         // ✅ 6자리 코드 생성(충돌 방지)
-        String code;
-        do {
-            code = String.format("%06d", random.nextInt(1_000_000));
-        } while (inviteCodeRepository.existsByCode(code));
-
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
-
-        InviteCode entity = InviteCode.builder()
-                .code(code)
-                .authorIntegrationId(authorIntegrationId)
-                .expiresAt(expiresAt)
-                .build();
+        // - 후보 여러 개 중 비어 있는 코드를 DB가 골라서 바로 저장 (existsByCode 반복 조회 없음)
+        // - 다른 요청과 같은 코드를 동시에 고른 경우에만 새 후보로 재시도
+        LocalDateTime expiresAt = now.plusMinutes(5);
+        String code = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && code == null; attempt++) {
+            code = inviteCodeRepository.insertFirstAvailable(randomCandidates(), authorIntegrationId, expiresAt, now);
+        }
 
-        inviteCodeRepository.save(entity);
+        if (code == null) {
+            throw new IllegalStateException("초대 코드 발급에 실패했습니다. 잠시 후 다시 시도하세요.");
+        }
 
         return Map.of(
                 "ok", true,
@@ -161,22 +159,26 @@ public class InviteCodeServiceImpl implements InviteCodeService {
     public String consumeValidCodeOrThrow(String code) {
         LocalDateTime now = LocalDateTime.now();
 
-        // ✅ DB에서 원자적으로 소비(used_at 업데이트)
-        int updated = inviteCodeRepository.consumeIfValid(code, now);
-
-        if (updated == 0) {
-            // 실패 사유를 조금 더 친절히
-            var ic = inviteCodeRepository.findByCode(code).orElse(null);
-            if (ic == null) throw new RuntimeException("유효하지 않은 코드입니다.");
-            if (ic.getUsedAt() != null) throw new RuntimeException("이미 사용된 코드입니다.");
-            if (ic.getExpiresAt().isBefore(now)) throw new RuntimeException("코드가 만료되었습니다. 작가에게 새 코드를 요청하세요.");
-            throw new RuntimeException("유효하지 않은 코드입니다.");
+        // ✅ DB에서 원자적으로 소비(used_at 업데이트) + authorIntegrationId 반환
+        String authorIntegrationId = inviteCodeRepository.consumeIfValid(code, now);
+        if (authorIntegrationId != null) {
+            return authorIntegrationId;
         }
 
-        // ✅ 성공이면 authorIntegrationId 반환
-        return inviteCodeRepository.findByCode(code)
-                .orElseThrow(() -> new RuntimeException("코드를 찾을 수 없습니다."))
-                .getAuthorIntegrationId();
+        // 실패 사유를 조금 더 친절히 (실패한 경우에만 조회)
+        var ic = inviteCodeRepository.findByCode(code).orElse(null);
+        if (ic == null) throw new RuntimeException("유효하지 않은 코드입니다.");
+        if (ic.getUsedAt() != null) throw new RuntimeException("이미 사용된 코드입니다.");
+        if (ic.getExpiresAt().isBefore(now)) throw new RuntimeException("코드가 만료되었습니다. 작가에게 새 코드를 요청하세요.");
+        throw new RuntimeException("유효하지 않은 코드입니다.");
     }
-}
 
+    // 쉼표로 이은 6자리 후보 코드 (insertFirstAvailable 파라미터)
+    private String randomCandidates() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (int i = 0; i < CANDIDATES_PER_ATTEMPT; i++) {
+            joiner.add(String.format("%06d", random.nextInt(1_000_000)));
+        }
+        return joiner.toString();
+    }
+}
@@ -1,14 +1,15 @@
 package com.aivle.ai0917.ipai.domain.author.lorebook.client;
 
+import com.aivle.ai0917.ipai.global.ai.AiGateway;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -18,26 +19,21 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AiLorebookClient {
 
-    private final WebClient aiWebClient;
+    private final AiGateway aiGateway;
 
     /**
      * 1. 설정집 유사도 검색 (AI)
      * POST /userQ
      */
-    public List<Object> searchSimilarLore(LorebookSearchRequest request) {
+    @SuppressWarnings("unchecked")
+    public Mono<List<Object>> searchSimilarLore(LorebookSearchRequest request) {
         log.info("AI 서버로 유사도 검색 요청: Query={}, WorkId={}", request.getUserQuery(), request.getWorkId());
-        try {
-            return aiWebClient.post()
-                    .uri("/userQ")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(List.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("유사도 검색 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 유사도 검색 실패: " + e.getMessage());
-        }
+        return aiGateway.post("/userQ", request, List.class)
+                .map(list -> (List<Object>) list)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("유사도 검색 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 유사도 검색 실패: " + e.getMessage());
+                });
     }
 
     /**
@@ -45,20 +41,13 @@ public class AiLorebookClient {
      * POST /comparison
      * 요청 바디에 카테고리명(예: "인물")이 동적 키로 들어가므로 Map 사용
      */
-    public ManualComparisonResponse manualComparison(Map<String, Object> requestMap) {
+    public Mono<ManualComparisonResponse> manualComparison(Map<String, Object> requestMap) {
         log.info("AI 서버로 수동 비교 요청: Data={}", requestMap);
-        try {
-            return aiWebClient.post()
-                    .uri("/comparison")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestMap)
-                    .retrieve()
-                    .bodyToMono(ManualComparisonResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("수동 비교 분석 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 수동 비교 분석 실패: " + e.getMessage());
-        }
+        return aiGateway.post("/comparison", requestMap, ManualComparisonResponse.class)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("수동 비교 분석 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 수동 비교 분석 실패: " + e.getMessage());
+                });
     }
 
 
@@ -67,20 +56,13 @@ public class AiLorebookClient {
      * 4. 설정집 충돌 이후 업로드
      * POST /DB_insert
      */
-    public String insertAfterConflict(DbInsertRequest request) {
+    public Mono<String> insertAfterConflict(DbInsertRequest request) {
         log.info("AI 서버로 충돌 해결 후 업로드 요청: WorkId={}, UserId={}", request.getWorkId(), request.getUserId());
-        try {
-            return aiWebClient.post()
-                    .uri("/dbupsert")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("충돌 해결 후 업로드 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 서버 업로드 실패: " + e.getMessage());
-        }
+        return aiGateway.post("/dbupsert", request, String.class)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("충돌 해결 후 업로드 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 서버 업로드 실패: " + e.getMessage());
+                });
     }
 
 
@@ -88,40 +70,26 @@ public class AiLorebookClient {
      * [추가] 5. 수동 설정집 저장 (AI 서버로 위임)
      * POST /manual_insert
      */
-    public ManualOperationResponse manualInsert(ManualLorebookRequest request) {
+    public Mono<ManualOperationResponse> manualInsert(ManualLorebookRequest request) {
         log.info("AI 서버로 수동 저장 요청: WorkId={}, Keyword={}", request.getWorkId(), request.getKeyword());
-        try {
-            return aiWebClient.post()
-                    .uri("/lorebook_insert")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ManualOperationResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("수동 저장 요청 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 서버 수동 저장 실패: " + e.getMessage());
-        }
+        return aiGateway.post("/lorebook_insert", request, ManualOperationResponse.class)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("수동 저장 요청 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 서버 수동 저장 실패: " + e.getMessage());
+                });
     }
 
     /**
      * [추가] 6. 수동 설정집 수정 (AI 서버로 위임)
      * POST /manual_update
      */
-    public ManualOperationResponse manualUpdate(ManualLorebookRequest request) {
+    public Mono<ManualOperationResponse> manualUpdate(ManualLorebookRequest request) {
         log.info("AI 서버로 수동 수정 요청: LoreId={}, Keyword={}", request.getLoreId(), request.getKeyword());
-        try {
-            return aiWebClient.post()
-                    .uri("/lorebook_update")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ManualOperationResponse.class)
-                    .block();
-        } catch (Exception e) {
-            log.error("수동 수정 요청 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 서버 수동 수정 실패: " + e.getMessage());
-        }
+        return aiGateway.post("/lorebook_update", request, ManualOperationResponse.class)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("수동 수정 요청 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 서버 수동 수정 실패: " + e.getMessage());
+                });
     }
 
 
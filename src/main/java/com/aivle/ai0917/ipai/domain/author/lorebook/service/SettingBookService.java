@@ -4,6 +4,7 @@ import com.aivle.ai0917.ipai.domain.author.lorebook.client.AiLorebookClient;
 import com.aivle.ai0917.ipai.domain.author.lorebook.dto.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -16,16 +17,16 @@ public interface SettingBookService {
     List<SettingBookResponseDto> getItemsByCategory(String userId, Long workId, String category);
 
     // [수정] 생성 및 AI 비교 (반환 타입 변경: void -> ManualComparisonResponse)
-    AiLorebookClient.ManualComparisonResponse create(String userId, Long workId, SettingBookCreateRequestDto request);
+    Mono<AiLorebookClient.ManualComparisonResponse> create(String userId, Long workId, SettingBookCreateRequestDto request);
 
     // 수정
-    void update(Long id, String userId, Long workId, SettingBookUpdateRequestDto request);
+    Mono<Void> update(Long id, String userId, Long workId, SettingBookUpdateRequestDto request);
 
     // 삭제
     void delete(Long id);
 
     // AI 유사도 검색
-    List<Object> searchSimilarLore(String userId, Long workId, String query, String category);
+    Mono<List<Object>> searchSimilarLore(String userId, Long workId, String query, String category);
 
-    String saveAfterConflict(Long workId, String userId, Long universeId, Object settingJson, int episodeId);
+    Mono<String> saveAfterConflict(Long workId, String userId, Long universeId, Object settingJson, int episodeId);
 }
\ No newline at end of file
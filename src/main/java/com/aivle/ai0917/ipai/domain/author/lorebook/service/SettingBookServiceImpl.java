@@ -14,6 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.HashMap;
 import java.util.List;
@@ -49,7 +51,7 @@ public class SettingBookServiceImpl implements SettingBookService {
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public AiLorebookClient.ManualComparisonResponse create(String userId, Long workId, SettingBookCreateRequestDto request) {
+    public Mono<AiLorebookClient.ManualComparisonResponse> create(String userId, Long workId, SettingBookCreateRequestDto request) {
 
         // 1. 설정 내용(JSON String)을 Map으로 변환
         Map<String, Object> settingMap = parseSettingJson(request.getSettings());
@@ -64,15 +66,15 @@ public class SettingBookServiceImpl implements SettingBookService {
                 .setting(settingMap)
                 .build();
 
-        aiLorebookClient.manualInsert(insertRequest);
-        log.info("AI 서버를 통한 설정집 저장 완료: Keyword={}", request.getKeyword());
-        return new AiLorebookClient.ManualComparisonResponse();
+        return aiLorebookClient.manualInsert(insertRequest)
+                .doOnSuccess(r -> log.info("AI 서버를 통한 설정집 저장 완료: Keyword={}", request.getKeyword()))
+                .thenReturn(new AiLorebookClient.ManualComparisonResponse());
     }
 
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public void update(Long id, String userId, Long workId, SettingBookUpdateRequestDto request) { // [수정] workId 추가
+    public Mono<Void> update(Long id, String userId, Long workId, SettingBookUpdateRequestDto request) { // [수정] workId 추가
 
         // 1. 설정 내용 파싱
         Map<String, Object> settingMap = parseSettingJson(request.getSettings());
@@ -88,8 +90,9 @@ public class SettingBookServiceImpl implements SettingBookService {
                 .setting(settingMap)
                 .build();
 
-        aiLorebookClient.manualUpdate(updateRequest);
-        log.info("AI 서버를 통한 설정집 수정 완료: ID={}, WorkID={}", id, workId);
+        return aiLorebookClient.manualUpdate(updateRequest)
+                .doOnSuccess(r -> log.info("AI 서버를 통한 설정집 수정 완료: ID={}, WorkID={}", id, workId))
+                .then();
     }
 
     @Override
@@ -103,7 +106,7 @@ public class SettingBookServiceImpl implements SettingBookService {
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public List<Object> searchSimilarLore(String userId, Long workId, String query, String category) {
+    public Mono<List<Object>> searchSimilarLore(String userId, Long workId, String query, String category) {
         String targetCategory = (category == null || category.isEmpty() || category.equals("all")) ? "*" : category;
 
         AiLorebookClient.LorebookSearchRequest request = AiLorebookClient.LorebookSearchRequest.builder()
@@ -120,7 +123,7 @@ public class SettingBookServiceImpl implements SettingBookService {
 
     @Override
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public String saveAfterConflict(Long workId, String userId, Long universeId, Object settingJson, int episodeId) {
+    public Mono<String> saveAfterConflict(Long workId, String userId, Long universeId, Object settingJson, int episodeId) {
 
         // 1. AI 서버 전송 객체 생성 (DbInsertRequest)
         // [중요] 여기에 episodeId를 넣지 않습니다. 따라서 AI 서버로 전송되지 않습니다.
@@ -132,19 +135,24 @@ public class SettingBookServiceImpl implements SettingBookService {
                 .build();
 
         log.info("충돌 해결 데이터 AI 전송 시작");
-        String response = aiLorebookClient.insertAfterConflict(request);
-        log.info("충돌 해결 데이터 AI 전송 완료: {}", response);
-
-        // 2. 에피소드 잠금 처리 (DB 작업)
-        // int -> Long 변환 후 리스트로 감싸서 처리 (기존 쿼리 재사용)
-        if (episodeId > 0) {
-            manuscriptCommandRepository.updateIsReadOnlyTrue(List.of((long) episodeId));
-            log.info("에피소드 잠금 처리 완료 (ID: {}, is_read_only=true)", episodeId);
-        } else {
-            log.warn("유효하지 않은 에피소드 ID입니다: {}", episodeId);
-        }
-
-        return response;
+        return aiLorebookClient.insertAfterConflict(request)
+                .defaultIfEmpty("")
+                // 응답은 Netty 이벤트 루프에서 오므로, 이후의 JDBC 작업은 블로킹 허용 스케줄러로 넘긴다.
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> {
+                    log.info("충돌 해결 데이터 AI 전송 완료: {}", response);
+
+                    // 2. 에피소드 잠금 처리 (DB 작업)
+                    // int -> Long 변환 후 리스트로 감싸서 처리 (기존 쿼리 재사용)
+                    if (episodeId > 0) {
+                        manuscriptCommandRepository.updateIsReadOnlyTrue(List.of((long) episodeId));
+                        log.info("에피소드 잠금 처리 완료 (ID: {}, is_read_only=true)", episodeId);
+                    } else {
+                        log.warn("유효하지 않은 에피소드 ID입니다: {}", episodeId);
+                    }
+
+                    return response;
+                });
     }
 
     private Map<String, Object> parseSettingJson(String jsonString) {
@@ -8,7 +8,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public interface WorkRepository extends JpaRepository<Work, Long> {
 
@@ -24,6 +28,33 @@ public interface WorkRepository extends JpaRepository<Work, Long> {
     // ✅ 매니저 화면: 작품 수 카운트
     long countByPrimaryAuthorIdAndStatusNot(String primaryAuthorId, WorkStatus status);
 
+    // ✅ 매니저 화면(목록): 여러 작가의 작품 수를 한 번에 카운트 (작가마다 count 쿼리를 날리지 않도록)
+    interface AuthorWorkCount {
+        String getAuthorId();
+        long getWorkCount();
+    }
+
+    @Query("""
+        SELECT w.primaryAuthorId AS authorId, COUNT(w) AS workCount
+        FROM Work w
+        WHERE w.primaryAuthorId IN :authorIds
+          AND w.status <> :status
+        GROUP BY w.primaryAuthorId
+    """)
+    List<AuthorWorkCount> countGroupByPrimaryAuthorId(@Param("authorIds") Collection<String> authorIds,
+                                                      @Param("status") WorkStatus status);
+
+    /**
+     * 작가 integrationId -> 작품 수 (작품이 없는 작가는 맵에 없음)
+     */
+    default Map<String, Long> countWorksByAuthor(Collection<String> authorIds, WorkStatus excludedStatus) {
+        if (authorIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return countGroupByPrimaryAuthorId(authorIds, excludedStatus).stream()
+                .collect(Collectors.toMap(AuthorWorkCount::getAuthorId, AuthorWorkCount::getWorkCount));
+    }
+
     // ✅ 매니저 상세: 최근 작품 5개
     List<Work> findTop5ByPrimaryAuthorIdAndStatusNotOrderByCreatedAtDesc(String primaryAuthorId, WorkStatus status);
 
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
@@ -101,10 +103,15 @@ public class ManagerAuthorQueryServiceImpl implements ManagerAuthorQueryService
 
         LocalDateTime activeThreshold = LocalDateTime.now().minusHours(1);
 
+        // ✅ 변경: 페이지에 포함된 작가들의 작품 수를 한 번에 조회 (primaryAuthorId 기준, DELETED 제외)
+        Map<String, Long> workCounts = workRepository.countWorksByAuthor(
+                userPage.stream().map(User::getIntegrationId).filter(Objects::nonNull).toList(),
+                WorkStatus.DELETED
+        );
+
         return userPage.map(u -> {
 
-            // ✅ 변경: primaryAuthorId 기준 카운트 (+ DELETED 제외)
-            long workCount = workRepository.countByPrimaryAuthorIdAndStatusNot(u.getIntegrationId(), WorkStatus.DELETED);
+            long workCount = workCounts.getOrDefault(u.getIntegrationId(), 0L);
 
             String status = (u.getLastActivityAt() != null && u.getLastActivityAt().isAfter(activeThreshold))
                     ? "ACTIVE"
@@ -5,16 +5,14 @@ import com.aivle.ai0917.ipai.domain.manager.info.dto.ManagerNoticeDto.ManagerNot
 import com.aivle.ai0917.ipai.domain.manager.info.model.ManagerNotice;
 import com.aivle.ai0917.ipai.domain.manager.info.repository.ManagerNoticeRepository;
 import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
+import com.aivle.ai0917.ipai.global.sse.SseHub;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,9 +23,9 @@ public class ManagerNoticeServiceImpl implements ManagerNoticeService {
     private final ManagerNoticeRepository managerNoticeRepository;
     private final UserRepository userRepository; // 유효성 검사 용도로 남겨둠
 
-    // [수정] Map Key를 String으로 변경
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private static final long SSE_TIMEOUT = 60 * 60 * 1000L;
+    // SSE 연결 관리 (공통 허브, Key = integrationId)
+    private final SseHub sseHub;
+    private static final String SSE_CHANNEL = "manager";
 
     @Override
     public SseEmitter subscribe(String integrationId) {
@@ -36,15 +34,7 @@ public class ManagerNoticeServiceImpl implements ManagerNoticeService {
             throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + integrationId);
         }
 
-        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
-        emitters.put(integrationId, emitter); // String Key 사용
-
-        emitter.onCompletion(() -> emitters.remove(integrationId));
-        emitter.onTimeout(() -> emitters.remove(integrationId));
-        emitter.onError((e) -> emitters.remove(integrationId));
-
-        sendToClient(integrationId, "connected", "SSE Connected [" + integrationId + "]");
-        return emitter;
+        return sseHub.subscribe(SSE_CHANNEL, integrationId, "SSE Connected [" + integrationId + "]");
     }
 
     @Override
@@ -59,11 +49,9 @@ public class ManagerNoticeServiceImpl implements ManagerNoticeService {
                 .redirectUrl(url)
                 .build());
 
-        // 2. 실시간 전송 (String Key로 찾아서 전송)
-        if (emitters.containsKey(integrationId)) {
-            ManagerNoticeDto dto = convertToDto(notice);
-            sendToClient(integrationId, "manager-notice", dto);
-        }
+        // 2. 실시간 전송 (다른 인스턴스에 연결되어 있을 수 있으므로 연결 여부와 무관하게 발행)
+        ManagerNoticeDto dto = convertToDto(notice);
+        sseHub.send(SSE_CHANNEL, integrationId, "manager-notice", dto);
     }
 
     @Override
@@ -97,17 +85,6 @@ public class ManagerNoticeServiceImpl implements ManagerNoticeService {
 
     // --- Helper Methods ---
 
-    private void sendToClient(String integrationId, String eventName, Object data) {
-        SseEmitter emitter = emitters.get(integrationId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event().name(eventName).data(data));
-            } catch (IOException e) {
-                emitters.remove(integrationId);
-            }
-        }
-    }
-
     private ManagerNoticeDto convertToDto(ManagerNotice entity) {
         return ManagerNoticeDto.builder()
                 .id(entity.getId())
@@ -1,17 +1,25 @@
 package com.aivle.ai0917.ipai.domain.manager.ipext.client;
 
+import com.aivle.ai0917.ipai.global.ai.AiGateway;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,42 +28,32 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AiIpExtClient {
 
-    private final WebClient aiWebClient;
+    private final AiGateway aiGateway;
 
     /**
      * 1. 설정집 충돌 검사 요청 (AI)
      * - AI 엔드포인트: POST /iplorebook
      */
-    public LorebookCheckResponse checkLorebookConflict(List<Map<String, Object>> lorebooks) {
+    public Mono<LorebookCheckResponse> checkLorebookConflict(List<Map<String, Object>> lorebooks) {
         log.info("AI 서버로 IP 확장 설정집 충돌 검사 요청: 로어북 개수={}", lorebooks.size());
 
         LorebookCheckRequest request = LorebookCheckRequest.builder()
                 .lorebooks(lorebooks)
                 .build();
 
-        try {
-            LorebookCheckResponse response = aiWebClient.post()
-                    .uri("/iplorebook")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(LorebookCheckResponse.class)
-                    .block();
-
-            log.info("설정집 충돌 검사 완료");
-            return response;
-
-        } catch (Exception e) {
-            log.error("설정집 충돌 검사 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 서버 통신 오류 (충돌 검사): " + e.getMessage());
-        }
+        return aiGateway.post("/iplorebook", request, LorebookCheckResponse.class)
+                .doOnSuccess(response -> log.info("설정집 충돌 검사 완료"))
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    log.error("설정집 충돌 검사 실패: {}", e.getMessage(), e);
+                    return new RuntimeException("AI 서버 통신 오류 (충돌 검사): " + e.getMessage());
+                });
     }
 
     /**
      * 2. IP 기획서 PDF 생성 및 전략 수립 요청 (AI)
      * - AI 엔드포인트: POST /ipproposal
      */
-    public ProposalResponse createIpProposal(Long proposalId, List<Map<String, Object>> processedLorebooks) {
+    public Mono<ProposalResponse> createIpProposal(Long proposalId, List<Map<String, Object>> processedLorebooks) {
         log.info("AI 서버로 IP 기획서 생성 요청: ID={}, 로어북 데이터 유무={}",
                 proposalId, (processedLorebooks != null && !processedLorebooks.isEmpty()));
 
@@ -64,60 +62,49 @@ public class AiIpExtClient {
         requestBody.put("id", proposalId);
         requestBody.put("processed_lorebooks", processedLorebooks);
 
-        try {
-            ProposalResponse response = aiWebClient.post()
-                    .uri("/ipproposal")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)  // ⭐ Map을 JSON으로 변환하여 전송
-                    .retrieve()
-                    .bodyToMono(ProposalResponse.class)
-                    .block();
-
-            log.info("IP 기획서 생성 완료: PDF Path={}", response.getPdfPath());
-            return response;
-
-        } catch (WebClientResponseException e) {
-            log.error("AI 서버 응답 오류: status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("AI 서버 통신 오류 (기획서 생성): " + e.getMessage());
-        } catch (Exception e) {
-            log.error("IP 기획서 생성 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("AI 서버 통신 오류 (기획서 생성): " + e.getMessage());
-        }
+        return aiGateway.post("/ipproposal", requestBody, ProposalResponse.class)  // ⭐ Map을 JSON으로 변환하여 전송
+                .doOnSuccess(response -> log.info("IP 기획서 생성 완료: PDF Path={}", response.getPdfPath()))
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    if (e instanceof WebClientResponseException we) {
+                        log.error("AI 서버 응답 오류: status={}, body={}",
+                                we.getStatusCode(), we.getResponseBodyAsString());
+                    } else {
+                        log.error("IP 기획서 생성 실패: {}", e.getMessage(), e);
+                    }
+                    return new RuntimeException("AI 서버 통신 오류 (기획서 생성): " + e.getMessage());
+                });
     }
 
     /**
-     * 3. 생성된 PDF를 AI 서버에서 직접 가져오기
+     * 3. 생성된 PDF를 AI 서버에서 스트리밍으로 가져오기 (본문을 byte[]로 모으지 않음)
      * - AI 엔드포인트: GET /ipproposal
+     * - forwardHeaders(Range)는 그대로 전달, AI 서버가 지원하면 206/416 응답을 그대로 돌려줌
+     * - 본문 DataBuffer 해제는 소비하는 쪽 책임
      */
-    public byte[] downloadProposalPdf(Long proposalId, String filePath) {
-        log.info("AI 서버로부터 PDF 다운로드 요청: proposalId={}, filePath={}", proposalId, filePath);
-
-        try {
-            byte[] pdf = aiWebClient.get()
-                    .uri(uriBuilder -> uriBuilder.path("/ipproposal")
-                            .queryParam("id", proposalId)
-                            .queryParam("path", filePath)
-                            .build())
-                    .accept(MediaType.APPLICATION_PDF)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-
-            if (pdf == null || pdf.length == 0) {
-                throw new IllegalStateException("AI 서버가 PDF를 반환하지 않았습니다.");
-            }
-            log.info("PDF 다운로드 완료: proposalId={}, size={} bytes", proposalId, pdf.length);
-            return pdf;
-
-        } catch (WebClientResponseException e) {
-            log.error("AI 서버 응답 오류 (PDF 다운로드): status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("AI 서버 통신 오류 (PDF 다운로드): " + e.getMessage());
-        } catch (Exception e) {
-            log.error("PDF 다운로드 실패: proposalId={}", proposalId, e);
-            throw new RuntimeException("AI 서버 통신 오류 (PDF 다운로드): " + e.getMessage(), e);
-        }
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamProposalPdf(Long proposalId, String filePath, HttpHeaders forwardHeaders) {
+        log.info("AI 서버로부터 PDF 스트리밍 요청: proposalId={}, filePath={}, range={}",
+                proposalId, filePath, forwardHeaders.getFirst(HttpHeaders.RANGE));
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("id", proposalId);
+        params.put("path", filePath);
+
+        return aiGateway.exchange("/ipproposal", params, MediaType.APPLICATION_PDF, forwardHeaders)
+                .filter(entity -> entity.getStatusCode().value() != HttpStatus.OK.value()
+                        || entity.getHeaders().getContentLength() != 0)
+                .onErrorMap(e -> !(e instanceof AiServiceUnavailableException), e -> {
+                    if (e instanceof WebClientResponseException we) {
+                        log.error("AI 서버 응답 오류 (PDF 다운로드): status={}, body={}",
+                                we.getStatusCode(), we.getResponseBodyAsString());
+                    } else {
+                        log.error("PDF 다운로드 실패: proposalId={}", proposalId, e);
+                    }
+                    return new RuntimeException("AI 서버 통신 오류 (PDF 다운로드): " + e.getMessage(), e);
+                })
+                // 빈 PDF는 통신 오류로 감싸지 않고 IllegalStateException 그대로 (컨트롤러에서 409)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("AI 서버가 PDF를 반환하지 않았습니다.")))
+                .doOnSuccess(entity -> log.info("PDF 스트리밍 응답 수신: proposalId={}, status={}, length={}",
+                        proposalId, entity.getStatusCode(), entity.getHeaders().getContentLength()));
     }
     // ===== DTO 정의 =====
 
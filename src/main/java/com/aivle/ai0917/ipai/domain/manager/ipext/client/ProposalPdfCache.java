@@ -0,0 +1,219 @@
+package com.aivle.ai0917.ipai.domain.manager.ipext.client;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * AI 서버에서 받은 IP 확장 제안서 PDF 로컬 디스크 캐시
+ * - 키: (제안서 ID, AI 서버 파일 경로) -> {file.dir}/proposal-cache/{id}-{md5(경로)}.pdf
+ *   같은 경로의 PDF는 다시 생성되지 않으므로 내용 검증 없이 재사용한다.
+ * - 전체 크기 상한(max-size-mb)을 넘으면 가장 오래 사용하지 않은 파일부터 삭제 (LRU)
+ * - 서버 재시작 시 디스크에 남은 파일을 최종 수정 시각 순으로 다시 읽어들인다.
+ * - 제안서 수정/삭제 시 해당 ID의 파일을 모두 무효화한다.
+ * - 조회는 경로가 아니라 잠금 안에서 연 파일 채널을 돌려준다. 전송 중에 LRU 제거/무효화로 파일이 삭제되거나
+ *   같은 이름으로 교체되어도 이미 연 채널은 원래 내용을 끝까지 읽는다. (채널은 받은 쪽에서 닫음)
+ */
+@Slf4j
+@Component
+public class ProposalPdfCache {
+
+    private static final String SUFFIX = ".pdf";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path cacheDir;
+    private final long maxBytes;
+
+    // 파일명 -> 크기, 접근 순서 유지 (가장 앞이 가장 오래 사용하지 않은 항목), 접근은 this로 동기화
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ProposalPdfCache(
+            @Value("${file.dir:./uploads/}") String fileDir,
+            @Value("${ipext.proposal-cache.max-size-mb:512}") long maxSizeMb) {
+        this.cacheDir = Paths.get(fileDir, "proposal-cache").toAbsolutePath();
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(cacheDir)) {
+                files = stream.filter(Files::isRegularFile).toList();
+            }
+
+            // 이전 실행에서 쓰다 만 임시 파일 정리
+            files.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .forEach(this::deleteQuietly);
+
+            List<Path> cached = files.stream()
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(this::lastModifiedQuietly))
+                    .toList();
+
+            synchronized (this) {
+                for (Path path : cached) {
+                    long size = Files.size(path);
+                    entries.put(path.getFileName().toString(), size);
+                    totalBytes += size;
+                }
+                evictIfNeeded();
+            }
+            log.info("제안서 PDF 캐시 로드: dir={}, files={}, size={}KB", cacheDir, entries.size(), totalBytes / 1024);
+        } catch (IOException e) {
+            log.warn("제안서 PDF 캐시 디렉토리 초기화 실패: {}", cacheDir, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    /**
+     * 캐시된 PDF를 읽기용으로 열어서 반환 (없으면 empty), 조회한 항목은 최근 사용으로 갱신
+     */
+    public synchronized Optional<AsynchronousFileChannel> open(Long proposalId, String filePath) {
+        String name = fileName(proposalId, filePath);
+        Long size = entries.get(name);
+        if (size == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(AsynchronousFileChannel.open(cacheDir.resolve(name), StandardOpenOption.READ));
+        } catch (IOException e) {
+            // 외부에서 지워진 경우
+            entries.remove(name);
+            totalBytes -= size;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 다운로드용 임시 파일 경로 (같은 제안서를 동시에 받아도 겹치지 않도록 UUID 사용)
+     */
+    public Path newTempFile(Long proposalId) {
+        return cacheDir.resolve(proposalId + "-" + UUID.randomUUID() + TEMP_SUFFIX);
+    }
+
+    /**
+     * 다운로드가 끝난 임시 파일을 캐시에 등록하고 읽기용으로 열어서 반환
+     */
+    public AsynchronousFileChannel put(Long proposalId, String filePath, Path tempFile) throws IOException {
+        String name = fileName(proposalId, filePath);
+        Path target = cacheDir.resolve(name);
+        long size = Files.size(tempFile);
+
+        AsynchronousFileChannel channel;
+        synchronized (this) {
+            // 교체와 열기를 한 잠금 안에서 (연 뒤에는 제거/무효화되어도 채널은 이 내용을 읽음)
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = AsynchronousFileChannel.open(target, StandardOpenOption.READ);
+
+            Long previous = entries.put(name, size);
+            totalBytes += size - (previous != null ? previous : 0L);
+            // 방금 넣은 파일이 상한보다 크면 다음 요청부터는 다시 AI 서버에서 받게 됨
+            evictIfNeeded();
+        }
+        log.debug("제안서 PDF 캐시 저장: proposalId={}, size={}KB, total={}KB", proposalId, size / 1024, totalBytes / 1024);
+        return channel;
+    }
+
+    /**
+     * 해당 제안서의 캐시 파일 전부 삭제 (경로가 바뀌었을 수 있으므로 ID 기준)
+     */
+    public synchronized void invalidate(Long proposalId) {
+        String prefix = proposalId + "-";
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Long> entry = it.next();
+            if (entry.getKey().startsWith(prefix)) {
+                it.remove();
+                totalBytes -= entry.getValue();
+                deleteQuietly(cacheDir.resolve(entry.getKey()));
+                log.debug("제안서 PDF 캐시 무효화: {}", entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 후 무효화 (커밋 전에 지우면 그 사이 다운로드가 이전 내용을 다시 캐시할 수 있음)
+     */
+    public void invalidateAfterCommit(Long proposalId) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(proposalId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(proposalId);
+            }
+        });
+    }
+
+    public void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // 사용 중인 파일(Windows) 등은 다음 정리 때 다시 시도
+            log.debug("제안서 PDF 캐시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    // 호출 시 this 잠금 보유
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            it.remove();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(cacheDir.resolve(eldest.getKey()));
+            log.debug("제안서 PDF 캐시 제거(LRU): {}", eldest.getKey());
+        }
+    }
+
+    private String fileName(Long proposalId, String filePath) {
+        return proposalId + "-" + DigestUtils.md5DigestAsHex(filePath.getBytes(StandardCharsets.UTF_8)) + SUFFIX;
+    }
+
+    private long lastModifiedQuietly(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
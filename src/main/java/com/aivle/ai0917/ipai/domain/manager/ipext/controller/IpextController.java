@@ -3,19 +3,25 @@ package com.aivle.ai0917.ipai.domain.manager.ipext.controller;
 import com.aivle.ai0917.ipai.domain.manager.ipext.dto.*;
 import com.aivle.ai0917.ipai.domain.manager.ipext.service.IpextService;
 import com.aivle.ai0917.ipai.domain.manager.ipextcomment.dto.ManagerCommentStatusUpdateDto;
+import com.aivle.ai0917.ipai.global.ai.AiServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -97,39 +103,65 @@ public class IpextController {
 
     // 9. IP 확장 제안서 PDF 다운로드 (추가됨)
     // GET /api/v1/manager/ipext/download/{id}
+    // - AI 서버 PDF를 메모리에 모으지 않고 스트림으로 전달
+    // - Range(이어받기), ETag/If-None-Match(304) 지원
+    // - 본문은 StreamingResponseBody로 전달: Range는 서비스에서 이미 처리했으므로 Spring MVC가 다시 자르지 않도록
+    //   (Resource로 반환하면 Range 요청에 200 응답이 왔을 때 MVC가 본문을 잘라서 206/416으로 바꿈)
     @GetMapping("/download/{id}")
-    public ResponseEntity<byte[]> downloadProposal(@PathVariable Long id) {
-        log.info("IP 확장 제안서 다운로드 요청: proposalId={}", id);
-
-        try {
-            // Service 호출하여 파일 데이터와 파일명 획득
-            IpFileDownloadDto fileData = ipextService.downloadProposal(id);
-
-            // 한글 파일명 인코딩 (브라우저 호환성)
-            String encodedFilename = URLEncoder.encode(fileData.getFilename(), StandardCharsets.UTF_8)
-                    .replaceAll("\\+", "%20"); // 공백 처리
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            // attachment: 다운로드 팝업, inline: 브라우저에서 바로 보기 (여기서는 다운로드로 설정)
-            headers.setContentDispositionFormData("attachment", encodedFilename);
-            headers.setContentLength(fileData.getContent().length);
-
-            return new ResponseEntity<>(fileData.getContent(), headers, HttpStatus.OK);
-
-        } catch (java.util.NoSuchElementException e) {
-            log.warn("제안서를 찾을 수 없음: proposalId={}", id);
-            return ResponseEntity.notFound().build();
-
-        } catch (IllegalStateException e) {
-            log.warn("파일이 준비되지 않음: proposalId={}, error={}", id, e.getMessage());
-            // 파일 경로는 DB에 없거나 실제 파일이 없는 경우 -> 409 Conflict 또는 404 Not Found
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
-
-        } catch (Exception e) {
-            log.error("제안서 다운로드 실패: proposalId={}", id, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public Mono<ResponseEntity<StreamingResponseBody>> downloadProposal(
+            @PathVariable Long id,
+            @RequestHeader HttpHeaders requestHeaders) {
+        log.info("IP 확장 제안서 다운로드 요청: proposalId={}, range={}", id, requestHeaders.getFirst(HttpHeaders.RANGE));
+
+        // Service 호출하여 파일 스트림과 파일명 획득 (제안서 조회/경로 검증 예외도 아래에서 함께 처리)
+        return Mono.defer(() -> ipextService.downloadProposal(id, requestHeaders))
+                .map(fileData -> {
+                    ResponseEntity.BodyBuilder builder = ResponseEntity.status(fileData.getStatus())
+                            .eTag(fileData.getETag())
+                            // 매번 재검증 (변경 없으면 304로 본문 전송 생략)
+                            .cacheControl(CacheControl.noCache().cachePrivate());
+
+                    if (fileData.getStatus().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        return builder.<StreamingResponseBody>build();
+                    }
+
+                    // 한글 파일명 인코딩 (브라우저 호환성)
+                    String encodedFilename = URLEncoder.encode(fileData.getFilename(), StandardCharsets.UTF_8)
+                            .replaceAll("\\+", "%20"); // 공백 처리
+
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.addAll(fileData.getHeaders()); // Content-Length / Content-Range / Accept-Ranges
+                    headers.setContentType(MediaType.APPLICATION_PDF);
+                    // attachment: 다운로드 팝업, inline: 브라우저에서 바로 보기 (여기서는 다운로드로 설정)
+                    headers.setContentDispositionFormData("attachment", encodedFilename);
+
+                    // DataBuffer를 조금씩 요청(backpressure)하며 응답으로 복사, 다 읽은 버퍼는 바로 해제
+                    // (중간에 연결이 끊기면 close에서 업스트림 구독 취소)
+                    StreamingResponseBody body = out -> {
+                        try (InputStream in = DataBufferUtils.subscriberInputStream(fileData.getBody(), 4)) {
+                            in.transferTo(out);
+                        }
+                    };
+
+                    return builder.headers(headers).body(body);
+                })
+                .onErrorResume(java.util.NoSuchElementException.class, e -> {
+                    log.warn("제안서를 찾을 수 없음: proposalId={}", id);
+                    return Mono.just(ResponseEntity.notFound().build());
+                })
+                .onErrorResume(IllegalStateException.class, e -> {
+                    log.warn("파일이 준비되지 않음: proposalId={}, error={}", id, e.getMessage());
+                    // 파일 경로는 DB에 없거나 실제 파일이 없는 경우 -> 409 Conflict 또는 404 Not Found
+                    return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).build());
+                })
+                .onErrorResume(AiServiceUnavailableException.class, e -> {
+                    log.warn("AI 서버 호출 차단으로 다운로드 불가: proposalId={}, error={}", id, e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                })
+                .onErrorResume(e -> {
+                    log.error("제안서 다운로드 실패: proposalId={}", id, e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+                });
     }
 
     // [NEW] 10. 제안서에 사용된 설정집 목록 조회
@@ -4,6 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import reactor.core.publisher.Flux;
 
 @Getter
 @Builder
@@ -11,5 +15,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class IpFileDownloadDto {
     private String filename; // 다운로드될 파일명 (예: 제목.pdf)
-    private byte[] content;  // 파일 바이너리 데이터
-}
\ No newline at end of file
+    private String eTag;     // 제안서 파일 식별 태그 (If-None-Match 비교용)
+
+    // 응답 상태 (200 / 206 부분 전송 / 416 범위 오류), 304면 본문 없음
+    // - Range는 서비스에서 이미 처리한 결과 (AI 서버 응답 또는 로컬 캐시 파일 기준)
+    private HttpStatusCode status;
+
+    // 그대로 전달할 헤더 (Content-Length, Content-Range, Accept-Ranges)
+    private HttpHeaders headers;
+
+    // 파일 바이너리 스트림 (AI 서버 응답 또는 로컬 캐시 파일, 메모리에 모으지 않고 그대로 전달)
+    private Flux<DataBuffer> body;
+}
@@ -5,6 +5,8 @@ import com.aivle.ai0917.ipai.domain.manager.ipext.dto.*;
 import com.aivle.ai0917.ipai.domain.manager.ipextcomment.dto.ManagerCommentStatusUpdateDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -36,14 +38,15 @@ public interface IpextService {
 
     // [2단계] 설정집 충돌 여부 확인 (AI)
     // 리턴 타입 변경: Object -> AiIpExtClient.LorebookCheckResponse
-    AiIpExtClient.LorebookCheckResponse checkSettingsConflict(ConflictCheckRequestDto request);
+    Mono<AiIpExtClient.LorebookCheckResponse> checkSettingsConflict(ConflictCheckRequestDto request);
 
     // [등록] IP 확장 제안 등록 (DB 저장 + AI 요청)
     // 리턴 타입 변경: Long -> AiIpExtClient.ProposalResponse
-    AiIpExtClient.ProposalResponse createProposal(IpProposalRequestDto request);
+    Mono<AiIpExtClient.ProposalResponse> createProposal(IpProposalRequestDto request);
 
-    // [추가] IP 확장 제안서 다운로드 (파일 데이터 + 파일명 반환을 위해 DTO 사용 권장)
-    IpFileDownloadDto downloadProposal(Long id);
+    // [추가] IP 확장 제안서 다운로드 (파일 스트림 + 파일명 반환을 위해 DTO 사용 권장)
+    // requestHeaders: 브라우저 요청의 Range / If-Range / If-None-Match
+    Mono<IpFileDownloadDto> downloadProposal(Long id, HttpHeaders requestHeaders);
 
     List<MatchedLorebookDto> getProposalLorebooks(String managerId, Long proposalId);
 
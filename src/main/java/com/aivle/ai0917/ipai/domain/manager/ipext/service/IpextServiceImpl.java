@@ -13,6 +13,7 @@ import com.aivle.ai0917.ipai.domain.manager.authors.repository.ManagerAuthorRepo
 import com.aivle.ai0917.ipai.domain.manager.info.dto.ManagerNoticeDto; // [추가]
 import com.aivle.ai0917.ipai.domain.manager.info.service.ManagerNoticeService;
 import com.aivle.ai0917.ipai.domain.manager.ipext.client.AiIpExtClient;
+import com.aivle.ai0917.ipai.domain.manager.ipext.client.ProposalPdfCache;
 import com.aivle.ai0917.ipai.domain.manager.ipext.dto.*;
 import com.aivle.ai0917.ipai.domain.manager.ipext.model.IpProposal;
 import com.aivle.ai0917.ipai.domain.manager.ipext.repository.IpProposalRepository;
@@ -21,11 +22,24 @@ import com.aivle.ai0917.ipai.domain.user.model.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
-
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,12 +50,16 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class IpextServiceImpl implements IpextService {
 
+    // 로컬 캐시 PDF 읽기 단위
+    private static final int FILE_READ_BUFFER_SIZE = 8192;
+
     private final IpProposalRepository ipProposalRepository;
     private final ManagerAuthorRepository managerAuthorRepository;
     private final WorkRepository workRepository;
     private final WorkCommandRepository workCommandRepository;
     private final SettingBookViewRepository settingBookViewRepository;
     private final AiIpExtClient aiIpExtClient;
+    private final ProposalPdfCache proposalPdfCache;
     private final IpProposalSaveService ipProposalSaveService;
     private final ManagerNoticeService managerNoticeService;
     private final IpProposalCommentRepository ipProposalCommentRepository;
@@ -116,6 +134,9 @@ public class IpextServiceImpl implements IpextService {
             }
             log.info("제안서(ID:{}) 수정으로 인해 관련 코멘트 {}개를 미사용 처리했습니다.", id, comments.size());
         }
+
+        // 3. [추가] 로컬에 캐시된 제안서 PDF 무효화
+        proposalPdfCache.invalidateAfterCommit(id);
     }
 
     // 4. IP 확장 제안 삭제
@@ -127,6 +148,9 @@ public class IpextServiceImpl implements IpextService {
 
         // Soft Delete 처리
         proposal.softDelete();
+
+        // [추가] 로컬에 캐시된 제안서 PDF 삭제
+        proposalPdfCache.invalidateAfterCommit(id);
     }
 
     // 5. IP 확장 제안 기획서 미리보기
@@ -151,13 +175,15 @@ public class IpextServiceImpl implements IpextService {
                 Pageable.unpaged()
         );
 
+        // 작가들의 작품 수를 한 번에 조회 (DELETED 제외, 작가 수와 무관하게 쿼리 1회)
+        Map<String, Long> workCounts = workRepository.countWorksByAuthor(
+                authorsPage.stream().map(User::getIntegrationId).filter(Objects::nonNull).toList(),
+                WorkStatus.DELETED
+        );
+
         return authorsPage.stream()
                 .map(author -> {
-                    // 각 작가의 작품 수 조회 (DELETED 제외)
-                    long workCount = workRepository.countByPrimaryAuthorIdAndStatusNot(
-                            author.getIntegrationId(),
-                            WorkStatus.DELETED
-                    );
+                    long workCount = workCounts.getOrDefault(author.getIntegrationId(), 0L);
 
                     return AuthorMatchResponseDto.builder()
                             .id(author.getId())
@@ -212,7 +238,7 @@ public class IpextServiceImpl implements IpextService {
 
     // [2단계] 설정집 충돌 여부 확인 (AI)
     @Override
-    public AiIpExtClient.LorebookCheckResponse checkSettingsConflict(ConflictCheckRequestDto request) {
+    public Mono<AiIpExtClient.LorebookCheckResponse> checkSettingsConflict(ConflictCheckRequestDto request) {
         // request.getLorebooks()는 프론트에서 받은 원본 로어북 리스트 (List<Map<String, Object>>)
         if (request.getLorebooks() == null || request.getLorebooks().isEmpty()) {
             throw new IllegalArgumentException("충돌 검사를 수행할 설정집(Lorebook) 데이터가 없습니다.");
@@ -227,7 +253,7 @@ public class IpextServiceImpl implements IpextService {
     @Override
     //createProposal이 여전히 트랜잭션 프록시 안에서 실행되어 트랜잭션이 계속 열리고 있어서 누수가 되고 있어서 명시적으로 중단하게끔 하여 누수 막음.
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
-    public AiIpExtClient.ProposalResponse createProposal(IpProposalRequestDto request) {
+    public Mono<AiIpExtClient.ProposalResponse> createProposal(IpProposalRequestDto request) {
         if (request.getManagerId() == null) {
             throw new IllegalArgumentException("Manager ID는 필수입니다.");
         }
@@ -238,25 +264,21 @@ public class IpextServiceImpl implements IpextService {
         // 2. AI 서버 호출 (이미 DB에 커밋된 상태)
         log.info("AI 서버로 IP 기획서 PDF 생성 요청 시작. Proposal ID={}", proposalId);
 
-        AiIpExtClient.ProposalResponse response = aiIpExtClient.createIpProposal(
-                proposalId,
-                request.getProcessedLorebooks()
-        );
-
-        managerNoticeService.sendNotice(
-                request.getManagerId(), // 수신자: 매니저
-                ManagerNoticeDto.ManagerNoticeSource.IP_EXT,
-                "IP 확장 제안서 생성 완료",
-                "'" + request.getTitle() + "' 제안서(PDF) 생성이 완료되었습니다.",
-                "/manager/ipext/" + proposalId // 클릭 시 제안서 상세/다운로드 페이지
-        );
-
-        return response;
+        return aiIpExtClient.createIpProposal(proposalId, request.getProcessedLorebooks())
+                // 알림 저장(DB)은 블로킹 작업이므로 Netty 이벤트 루프가 아닌 별도 스케줄러에서 수행
+                .publishOn(Schedulers.boundedElastic())
+                .doOnSuccess(response -> managerNoticeService.sendNotice(
+                        request.getManagerId(), // 수신자: 매니저
+                        ManagerNoticeDto.ManagerNoticeSource.IP_EXT,
+                        "IP 확장 제안서 생성 완료",
+                        "'" + request.getTitle() + "' 제안서(PDF) 생성이 완료되었습니다.",
+                        "/manager/ipext/" + proposalId // 클릭 시 제안서 상세/다운로드 페이지
+                ));
     }
 
     // [추가] IP 확장 제안서 다운로드 구현
     @Override
-    public IpFileDownloadDto downloadProposal(Long id) {
+    public Mono<IpFileDownloadDto> downloadProposal(Long id, HttpHeaders requestHeaders) {
         // 1. 제안서 조회 (Status가 DELETED가 아닌 것)
         IpProposal proposal = ipProposalRepository.findActiveById(id)
                 .orElseThrow(() -> new NoSuchElementException("해당 제안서를 찾을 수 없습니다. ID: " + id));
@@ -267,16 +289,140 @@ public class IpextServiceImpl implements IpextService {
             throw new IllegalStateException("생성된 PDF 파일 경로가 존재하지 않습니다. (아직 생성 중이거나 실패했을 수 있습니다.)");
         }
 
-        // 3. AI 서버에서 PDF 다운로드
-        byte[] content = aiIpExtClient.downloadProposalPdf(id, filePath);
-
-        // 4. 다운로드 파일명 생성 (제안서 제목 + .pdf)
+        // 3. 다운로드 파일명 생성 (제안서 제목 + .pdf)
         String downloadFilename = proposal.getTitle().replaceAll("\\s+", "_") + ".pdf";
 
-        return IpFileDownloadDto.builder()
-                .filename(downloadFilename)
-                .content(content)
-                .build();
+        // 4. 캐시 검증: 같은 경로의 PDF는 다시 생성되지 않으므로 (id + 경로)로 ETag를 만들고,
+        //    브라우저가 이미 가진 파일이면 AI 서버를 호출하지 않고 304
+        String eTag = "\"proposal-" + id + "-"
+                + DigestUtils.md5DigestAsHex(filePath.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (ifNoneMatch.contains(eTag) || ifNoneMatch.contains("*")) {
+            return Mono.just(IpFileDownloadDto.builder()
+                    .filename(downloadFilename)
+                    .eTag(eTag)
+                    .status(HttpStatus.NOT_MODIFIED)
+                    .build());
+        }
+
+        // 5. 로컬 디스크 캐시: 한 번 받은 PDF는 AI 서버를 다시 호출하지 않고 디스크에서 전송
+        //    (캐시에 없으면 전체를 임시 파일로 받은 뒤 등록, Range/If-Range는 로컬 파일 기준으로 처리)
+        if (proposalPdfCache.isEnabled()) {
+            Optional<AsynchronousFileChannel> cached = proposalPdfCache.open(id, filePath);
+            if (cached.isPresent()) {
+                log.debug("제안서 PDF 캐시 적중: proposalId={}", id);
+                return Mono.fromCallable(() -> cachedDownload(downloadFilename, eTag, cached.get(), requestHeaders));
+            }
+
+            Path tempFile = proposalPdfCache.newTempFile(id);
+            return aiIpExtClient.streamProposalPdf(id, filePath, new HttpHeaders())
+                    .flatMap(entity -> DataBufferUtils.write(
+                                    entity.getBody() != null ? entity.getBody() : Flux.<DataBuffer>empty(), tempFile)
+                            .then(Mono.fromCallable(() -> proposalPdfCache.put(id, filePath, tempFile))
+                                    .subscribeOn(Schedulers.boundedElastic())))
+                    .map(channel -> cachedDownload(downloadFilename, eTag, channel, requestHeaders))
+                    .doOnError(e -> proposalPdfCache.deleteQuietly(tempFile));
+        }
+
+        // 6. (캐시 미사용 시) 이어받기: Range만 AI 서버로 전달 (If-Range가 현재 ETag와 다르면 전체 파일을 다시 받음)
+        HttpHeaders forwardHeaders = new HttpHeaders();
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            forwardHeaders.set(HttpHeaders.RANGE, range);
+        }
+
+        // 7. AI 서버 PDF를 메모리에 모으지 않고 스트림 그대로 전달
+        return aiIpExtClient.streamProposalPdf(id, filePath, forwardHeaders)
+                .map(entity -> {
+                    HttpHeaders passHeaders = new HttpHeaders();
+                    copyHeader(entity.getHeaders(), passHeaders, HttpHeaders.CONTENT_LENGTH);
+                    copyHeader(entity.getHeaders(), passHeaders, HttpHeaders.CONTENT_RANGE);
+                    copyHeader(entity.getHeaders(), passHeaders, HttpHeaders.ACCEPT_RANGES);
+
+                    return IpFileDownloadDto.builder()
+                            .filename(downloadFilename)
+                            .eTag(eTag)
+                            .status(entity.getStatusCode())
+                            .headers(passHeaders)
+                            .body(entity.getBody() != null ? entity.getBody() : Flux.empty())
+                            .build();
+                });
+    }
+
+    /**
+     * 로컬 캐시 파일 전송 (단일 Range만 206으로 잘라 보내고, 여러 구간/형식 오류/If-Range 불일치는 전체 200)
+     * - channel은 캐시 잠금 안에서 연 것 (본문을 다 읽거나 취소되면 닫히고, 본문이 없는 응답이면 여기서 닫음)
+     */
+    private IpFileDownloadDto cachedDownload(String filename, String eTag, AsynchronousFileChannel channel,
+                                             HttpHeaders requestHeaders) throws IOException {
+        long size;
+        try {
+            size = channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        IpFileDownloadDto.IpFileDownloadDtoBuilder result = IpFileDownloadDto.builder()
+                .filename(filename)
+                .eTag(eTag)
+                .headers(headers);
+
+        String range = requestHeaders.getFirst(HttpHeaders.RANGE);
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        List<HttpRange> ranges = List.of();
+        if (range != null && (ifRange == null || ifRange.equals(eTag))) {
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                log.debug("잘못된 Range 헤더 무시: {}", range);
+            }
+        }
+
+        if (ranges.size() == 1) {
+            HttpRange requested = ranges.get(0);
+            long start;
+            long end;
+            try {
+                start = requested.getRangeStart(size);
+                end = requested.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                start = size; // 파일 크기를 벗어난 구간
+                end = size - 1;
+            }
+            if (start >= size || end < start) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                channel.close();
+                return result.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).body(Flux.empty()).build();
+            }
+
+            long length = end - start + 1;
+            headers.setContentLength(length);
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            return result.status(HttpStatus.PARTIAL_CONTENT)
+                    .body(DataBufferUtils.takeUntilByteCount(readFile(channel, start), length))
+                    .build();
+        }
+
+        headers.setContentLength(size);
+        return result.status(HttpStatus.OK).body(readFile(channel, 0)).build();
+    }
+
+    // 읽기가 끝나거나 취소/실패하면 채널을 닫음
+    private static Flux<DataBuffer> readFile(AsynchronousFileChannel channel, long position) {
+        return DataBufferUtils.readAsynchronousFileChannel(
+                () -> channel, position, DefaultDataBufferFactory.sharedInstance, FILE_READ_BUFFER_SIZE);
+    }
+
+    private static void copyHeader(HttpHeaders from, HttpHeaders to, String name) {
+        List<String> values = from.get(name);
+        if (values != null) {
+            to.put(name, values);
+        }
     }
 
     @Override
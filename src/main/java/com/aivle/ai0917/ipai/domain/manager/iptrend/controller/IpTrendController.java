@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -92,21 +94,15 @@ public class IpTrendController {
      *
      * GET /api/v1/manager/iptrend/report
      *
-     * @return PDF 파일 (바이너리)
+     * @return PDF 파일 (스트리밍, Range/ETag 지원)
      */
     @GetMapping("/report")
-    public ResponseEntity<byte[]> downloadLatestReport() {
+    public ResponseEntity<Resource> downloadLatestReport() {
         log.info("최신 리포트 다운로드 요청");
 
         try {
-            byte[] pdfContent = ipTrendService.downloadLatestReport();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "latest_trend_report.pdf");
-            headers.setContentLength(pdfContent.length);
-
-            return new ResponseEntity<>(pdfContent, headers, HttpStatus.OK);
+            ReportDownload file = ipTrendService.downloadLatestReport();
+            return pdfResponse(file, "latest_trend_report.pdf");
 
         } catch (IllegalArgumentException e) {
             log.warn("다운로드 가능한 리포트 없음: {}", e.getMessage());
@@ -124,21 +120,15 @@ public class IpTrendController {
      * GET /api/v1/manager/iptrend/download/{reportId}
      *
      * @param reportId 리포트 ID
-     * @return PDF 파일 (바이너리)
+     * @return PDF 파일 (스트리밍, Range/ETag 지원)
      */
     @GetMapping("/download/{reportId}")
-    public ResponseEntity<byte[]> downloadReport(@PathVariable Long reportId) {
+    public ResponseEntity<Resource> downloadReport(@PathVariable Long reportId) {
         log.info("리포트 다운로드 요청: reportId={}", reportId);
 
         try {
-            byte[] pdfContent = ipTrendService.downloadReport(reportId);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentDispositionFormData("attachment", "trend_report_" + reportId + ".pdf");
-            headers.setContentLength(pdfContent.length);
-
-            return new ResponseEntity<>(pdfContent, headers, HttpStatus.OK);
+            ReportDownload file = ipTrendService.downloadReport(reportId);
+            return pdfResponse(file, "trend_report_" + reportId + ".pdf");
 
         } catch (IllegalArgumentException e) {
             log.warn("리포트를 찾을 수 없음: reportId={}", reportId);
@@ -154,6 +144,25 @@ public class IpTrendController {
         }
     }
 
+    /**
+     * PDF 응답 생성
+     * - Resource 본문: 파일 전체를 메모리에 올리지 않고 버퍼 단위로 전송
+     * - Range 요청이면 Spring MVC가 206 + 해당 구간만 전송 (브라우저 이어받기)
+     * - ETag/Last-Modified가 요청(If-None-Match 등)과 같으면 Spring MVC가 본문 없이 304
+     */
+    private ResponseEntity<Resource> pdfResponse(ReportDownload file, String downloadName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDispositionFormData("attachment", downloadName);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(file.getETag())
+                .lastModified(file.getLastModified())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(file.getResource());
+    }
+
     /**
      * 새 트렌드 분석 리포트 생성 요청
      *
@@ -206,6 +215,40 @@ public class IpTrendController {
         }
     }
 
+    /**
+     * 대기/실행 중인 리포트 생성 취소
+     *
+     * POST /api/v1/manager/iptrend/generate/{reportId}/cancel
+     *
+     * @param reportId 리포트 ID
+     * @return 취소 결과
+     */
+    @PostMapping("/generate/{reportId}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelReport(@PathVariable Long reportId) {
+        log.info("리포트 생성 취소 요청: reportId={}", reportId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("reportId", reportId);
+        response.put("timestamp", LocalDateTime.now());
+
+        try {
+            ipTrendService.cancelReport(reportId);
+            response.put("success", true);
+            response.put("message", "리포트 생성이 취소되었습니다.");
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            log.warn("리포트를 찾을 수 없음: reportId={}", reportId);
+            return ResponseEntity.notFound().build();
+
+        } catch (IllegalStateException e) {
+            log.warn("리포트 생성 취소 불가: reportId={}, {}", reportId, e.getMessage());
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+    }
+
     /**
      * 오늘 날짜 리포트 존재 여부 확인
      *
@@ -3,6 +3,7 @@ package com.aivle.ai0917.ipai.domain.manager.iptrend.dto;
 import com.aivle.ai0917.ipai.domain.manager.iptrend.model.IpTrendReport;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.core.io.Resource;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -79,6 +80,19 @@ public class IpTrendResponseDto {
         }
     }
 
+    /**
+     * PDF 다운로드 (파일을 메모리에 올리지 않고 Resource 그대로 응답으로 흘려보냄)
+     */
+    @Getter
+    @Builder
+    public static class ReportDownload {
+        private Long reportId;
+        private String fileName;
+        private Resource resource;
+        private long lastModified; // epoch millis
+        private String eTag;       // 리포트 ID + 파일 수정 시각 + 크기
+    }
+
     /**
      * 대시보드 통계 응답
      */
@@ -88,6 +102,7 @@ public class IpTrendResponseDto {
         private ReportSummary latestReport;
         private ReportStatistics statistics;
         private List<RecentReport> recentReports;
+        private List<GenerationJob> generationJobs; // 대기/실행 중인 리포트 생성 작업
 
         @Getter
         @Builder
@@ -115,6 +130,18 @@ public class IpTrendResponseDto {
             private LocalDateTime createdAt;
             private String status;
         }
+
+        @Getter
+        @Builder
+        public static class GenerationJob {
+            private Long reportId;
+            private String analysisMonth;   // yyyy-MM
+            private String state;           // QUEUED, RUNNING
+            private int queuePosition;      // 대기 순번 (1부터, 실행 중이면 0)
+            private LocalDateTime enqueuedAt;
+            private LocalDateTime startedAt;
+            private long runningSeconds;    // 실행 경과 시간 (초)
+        }
     }
 
     /**
@@ -0,0 +1,268 @@
+package com.aivle.ai0917.ipai.domain.manager.iptrend.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * IP 트렌드 리포트 생성(Python 스크립트) 전용 실행기
+ * - 동시 실행 수와 대기열 크기를 제한한다. (요청마다 new Thread + Python 프로세스가 무제한으로 뜨던 문제)
+ * - 같은 분석 월(yyyy-MM) 작업은 하나만 대기/실행한다. (중복 요청은 진행 중인 작업에 합류)
+ * - 제한 시간을 넘기거나 취소된 Python 프로세스는 하위 프로세스까지 강제 종료한다.
+ * - 대기/실행 상태는 이 인스턴스 메모리에만 있다. (대시보드의 대기 순번/실행 시간 표시용)
+ */
+@Slf4j
+@Component
+public class IpTrendJobExecutor {
+
+    @FunctionalInterface
+    public interface JobTask {
+        void run(JobHandle handle) throws Exception;
+    }
+
+    public enum JobState {
+        QUEUED,   // 대기열에서 실행 대기
+        RUNNING   // Python 스크립트 실행 중
+    }
+
+    /**
+     * 작업 상태 조회용 스냅샷 (queuePosition: 대기 중이면 1부터, 실행 중이면 0)
+     */
+    public record JobSnapshot(Long reportId, String analysisMonth, JobState state, int queuePosition,
+                              LocalDateTime enqueuedAt, LocalDateTime startedAt, long runningSeconds) {}
+
+    /**
+     * created=false 이면 같은 분석 월 작업이 이미 있어서 새로 등록하지 않은 것 (job은 기존 작업)
+     */
+    public record SubmitResult(JobSnapshot job, boolean created) {}
+
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService watchdog;
+
+    // 제출 순서 유지 (대기 순번 계산), 접근은 this로 동기화
+    private final Map<Long, JobHandle> jobs = new LinkedHashMap<>();
+
+    public IpTrendJobExecutor(
+            @Value("${iptrend.executor.max-concurrent:1}") int maxConcurrent,
+            @Value("${iptrend.executor.queue-capacity:5}") int queueCapacity,
+            @Value("${iptrend.executor.timeout:30m}") Duration timeout) {
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(
+                maxConcurrent, maxConcurrent, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("iptrend-report-"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("iptrend-watchdog-"));
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 리포트 생성 작업 등록
+     * - 같은 분석 월 작업이 대기/실행 중이면 새로 등록하지 않고 기존 작업을 돌려준다.
+     * - 대기열이 가득 차면 IllegalStateException
+     */
+    public synchronized SubmitResult submit(Long reportId, String analysisMonth, JobTask task) {
+        Optional<JobSnapshot> existing = findByMonth(analysisMonth);
+        if (existing.isPresent()) {
+            return new SubmitResult(existing.get(), false);
+        }
+
+        JobHandle handle = new JobHandle(reportId, analysisMonth);
+        handle.future = new FutureTask<>(() -> run(handle, task), null);
+        jobs.put(reportId, handle);
+        try {
+            executor.execute(handle.future);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(reportId);
+            throw new IllegalStateException(
+                    "리포트 생성 대기열이 가득 찼습니다. (최대 " + queueCapacity + "건) 잠시 후 다시 시도하세요.");
+        }
+
+        log.info("IP 트렌드 리포트 작업 등록: reportId={}, month={}, 대기={}건",
+                reportId, analysisMonth, executor.getQueue().size());
+        return new SubmitResult(snapshot(handle), true);
+    }
+
+    public synchronized Optional<JobSnapshot> findByMonth(String analysisMonth) {
+        return jobs.values().stream()
+                .filter(h -> h.analysisMonth.equals(analysisMonth))
+                .findFirst()
+                .map(this::snapshot);
+    }
+
+    /**
+     * 작업 취소
+     * - 대기 중: 대기열에서 바로 제거 (QUEUED 반환, 리포트 상태 정리는 호출한 쪽 책임)
+     * - 실행 중: Python 프로세스를 강제 종료 (RUNNING 반환, 실행 스레드가 취소로 마무리)
+     * - 이 인스턴스에 없는 작업이면 empty
+     */
+    public synchronized Optional<JobState> cancel(Long reportId) {
+        JobHandle handle = jobs.get(reportId);
+        if (handle == null) {
+            return Optional.empty();
+        }
+
+        if (handle.state == JobState.QUEUED && handle.future.cancel(false)) {
+            // 실행 스레드가 막 꺼내 간 경우에도 FutureTask.cancel(false)는 성공하므로,
+            // 핸들도 취소해서 run()이 시작하지 않거나 start()에서 CancellationException이 나도록 함
+            handle.cancel();
+            executor.remove(handle.future);
+            jobs.remove(reportId);
+            log.info("대기 중인 IP 트렌드 리포트 작업 취소: reportId={}", reportId);
+            return Optional.of(JobState.QUEUED);
+        }
+
+        handle.cancel();
+        log.info("실행 중인 IP 트렌드 리포트 작업 취소: reportId={}", reportId);
+        return Optional.of(JobState.RUNNING);
+    }
+
+    /**
+     * 현재 대기/실행 중인 작업 목록 (제출 순서)
+     */
+    public synchronized List<JobSnapshot> getJobs() {
+        List<JobSnapshot> result = new ArrayList<>(jobs.size());
+        for (JobHandle handle : jobs.values()) {
+            result.add(snapshot(handle));
+        }
+        return result;
+    }
+
+    private void run(JobHandle handle, JobTask task) {
+        synchronized (this) {
+            // 대기 중 취소된 작업 (cancel이 잠금을 먼저 잡은 경우)
+            if (handle.isCancelled() || handle.future.isCancelled()) {
+                return;
+            }
+            handle.state = JobState.RUNNING;
+            handle.startedAt = LocalDateTime.now();
+        }
+        ScheduledFuture<?> timer = watchdog.schedule(handle::expire, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        try {
+            task.run(handle);
+        } catch (Exception e) {
+            log.error("IP 트렌드 리포트 작업 실행 중 예외 발생: reportId={}", handle.reportId, e);
+        } finally {
+            timer.cancel(false);
+            handle.destroyProcess();
+            synchronized (this) {
+                jobs.remove(handle.reportId);
+            }
+        }
+    }
+
+    // 호출 시 this 잠금 보유
+    private JobSnapshot snapshot(JobHandle handle) {
+        int position = 0;
+        if (handle.state == JobState.QUEUED) {
+            for (JobHandle h : jobs.values()) {
+                if (h.state == JobState.QUEUED) {
+                    position++;
+                }
+                if (h == handle) {
+                    break;
+                }
+            }
+        }
+
+        long runningSeconds = handle.startedAt != null
+                ? Duration.between(handle.startedAt, LocalDateTime.now()).getSeconds()
+                : 0;
+
+        return new JobSnapshot(handle.reportId, handle.analysisMonth, handle.state, position,
+                handle.enqueuedAt, handle.startedAt, runningSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        synchronized (this) {
+            jobs.values().forEach(JobHandle::destroyProcess);
+        }
+        executor.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * 실행 중인 작업 제어 핸들 (Python 프로세스 등록, 취소/시간 초과 여부 확인)
+     */
+    public static final class JobHandle {
+
+        private final Long reportId;
+        private final String analysisMonth;
+        private final LocalDateTime enqueuedAt = LocalDateTime.now();
+
+        private FutureTask<Void> future;
+        private volatile JobState state = JobState.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile Process process;
+        private volatile boolean cancelled;
+        private volatile boolean timedOut;
+
+        private JobHandle(Long reportId, String analysisMonth) {
+            this.reportId = reportId;
+            this.analysisMonth = analysisMonth;
+        }
+
+        public Long getReportId() {
+            return reportId;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * 프로세스 시작 + 강제 종료 대상으로 등록
+         * - 이미 취소/시간 초과된 작업이면 프로세스를 띄우지 않고 CancellationException
+         */
+        public synchronized Process start(ProcessBuilder processBuilder) throws IOException {
+            if (cancelled || timedOut) {
+                throw new CancellationException("중단된 작업입니다.");
+            }
+            process = processBuilder.start();
+            return process;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            destroyProcess();
+        }
+
+        synchronized void expire() {
+            timedOut = true;
+            log.warn("IP 트렌드 리포트 작업 시간 초과, 프로세스 강제 종료: reportId={}", reportId);
+            destroyProcess();
+        }
+
+        synchronized void destroyProcess() {
+            Process p = process;
+            if (p != null && p.isAlive()) {
+                // 스크립트가 내부에서 띄운 하위 프로세스까지 종료
+                p.descendants().forEach(ProcessHandle::destroyForcibly);
+                p.destroyForcibly();
+            }
+        }
+    }
+}
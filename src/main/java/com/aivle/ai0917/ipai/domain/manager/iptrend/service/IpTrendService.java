@@ -29,18 +29,23 @@ public interface IpTrendService {
     /**
      * 가장 최근 PDF 다운로드
      */
-    byte[] downloadLatestReport();
+    ReportDownload downloadLatestReport();
 
     /**
      * 특정 PDF 다운로드
      */
-    byte[] downloadReport(Long reportId);
+    ReportDownload downloadReport(Long reportId);
 
     /**
      * Python 스크립트 실행하여 새 리포트 생성
      */
     GenerateReportResponse generateNewReport(GenerateReportRequest request);
 
+    /**
+     * 대기/실행 중인 리포트 생성 취소 (실행 중이면 Python 프로세스 강제 종료)
+     */
+    void cancelReport(Long reportId);
+
     /**
      * 오늘 날짜 리포트가 이미 존재하는지 확인
      */
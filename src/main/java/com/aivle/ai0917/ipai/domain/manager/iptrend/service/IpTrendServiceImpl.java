@@ -7,23 +7,29 @@ import com.aivle.ai0917.ipai.domain.manager.iptrend.dto.IpTrendResponseDto.*;
 import com.aivle.ai0917.ipai.domain.manager.iptrend.model.IpTrendReport;
 import com.aivle.ai0917.ipai.domain.manager.iptrend.model.IpTrendReport.ReportStatus;
 import com.aivle.ai0917.ipai.domain.manager.iptrend.repository.IpTrendReportRepository;
+import com.aivle.ai0917.ipai.domain.manager.iptrend.scheduler.IpTrendJobExecutor;
+import com.aivle.ai0917.ipai.domain.manager.iptrend.scheduler.IpTrendJobExecutor.JobHandle;
+import com.aivle.ai0917.ipai.domain.manager.iptrend.scheduler.IpTrendJobExecutor.JobSnapshot;
+import com.aivle.ai0917.ipai.domain.manager.iptrend.scheduler.IpTrendJobExecutor.JobState;
+import com.aivle.ai0917.ipai.domain.manager.iptrend.scheduler.IpTrendJobExecutor.SubmitResult;
 import com.aivle.ai0917.ipai.domain.user.model.User;
 import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +44,9 @@ public class IpTrendServiceImpl implements IpTrendService {
     private final IpTrendReportRepository reportRepository;
     private final ManagerNoticeService managerNoticeService;
     private final UserRepository userRepository;
+    private final IpTrendJobExecutor jobExecutor;
+
+    private static final DateTimeFormatter ANALYSIS_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
 
     @Value("${iptrend.python.script.path:webnovel_trend_analysis_and_report.py}")
     private String pythonScriptPath;
@@ -92,6 +101,9 @@ public class IpTrendServiceImpl implements IpTrendService {
                         .lastGeneratedAt(latestReport != null ? latestReport.getCreatedAt() : null)
                         .build())
                 .recentReports(recentReports)
+                .generationJobs(jobExecutor.getJobs().stream()
+                        .map(this::toGenerationJob)
+                        .collect(Collectors.toList()))
                 .build();
     }
 
@@ -123,7 +135,7 @@ public class IpTrendServiceImpl implements IpTrendService {
     }
 
     @Override
-    public byte[] downloadLatestReport() {
+    public ReportDownload downloadLatestReport() {
         log.info("최신 리포트 다운로드 요청");
 
         IpTrendReport latestReport = reportRepository
@@ -134,7 +146,7 @@ public class IpTrendServiceImpl implements IpTrendService {
     }
 
     @Override
-    public byte[] downloadReport(Long reportId) {
+    public ReportDownload downloadReport(Long reportId) {
         log.info("리포트 다운로드: reportId={}", reportId);
 
         IpTrendReport report = reportRepository.findById(reportId)
@@ -144,17 +156,35 @@ public class IpTrendServiceImpl implements IpTrendService {
             throw new IllegalStateException("완료되지 않은 리포트는 다운로드할 수 없습니다.");
         }
 
+        // 파일 내용은 읽지 않고 Resource만 넘김 (응답 시 버퍼 단위로 복사, Range 요청은 해당 구간만 읽음)
+        FileSystemResource resource = new FileSystemResource(report.getFilePath());
+        if (!resource.isReadable()) {
+            log.error("파일 읽기 실패: {}", report.getFilePath());
+            throw new RuntimeException("파일을 읽을 수 없습니다.");
+        }
+
         try {
-            Path filePath = Paths.get(report.getFilePath());
-            return Files.readAllBytes(filePath);
+            long lastModified = resource.lastModified();
+            long size = resource.contentLength();
+
+            return ReportDownload.builder()
+                    .reportId(reportId)
+                    .fileName(report.getFileName())
+                    .resource(resource)
+                    .lastModified(lastModified)
+                    .eTag("\"report-" + reportId + "-" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) + "\"")
+                    .build();
         } catch (IOException e) {
             log.error("파일 읽기 실패: {}", report.getFilePath(), e);
             throw new RuntimeException("파일을 읽을 수 없습니다.", e);
         }
     }
 
+    /**
+     * 트랜잭션 없이 실행: 리포트 레코드를 먼저 커밋해야 작업 스레드가 바로 조회할 수 있음
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public GenerateReportResponse generateNewReport(GenerateReportRequest request) {
         log.info("===============================================");
         log.info("새 리포트 생성 시작");
@@ -168,6 +198,13 @@ public class IpTrendServiceImpl implements IpTrendService {
         log.info("데이터 출처: {}", request.getDataSource());
         log.info("강제 재생성: {}", request.isForceRegenerate());
 
+        // 같은 분석 월 리포트를 이미 생성 중이면 새로 띄우지 않고 진행 중인 작업을 알려줌 (강제 재생성 포함)
+        String analysisMonth = analysisDate.format(ANALYSIS_MONTH);
+        Optional<JobSnapshot> inFlight = jobExecutor.findByMonth(analysisMonth);
+        if (inFlight.isPresent()) {
+            return inFlightResponse(inFlight.get(), generateFileName(analysisDate));
+        }
+
         // 오늘 날짜 리포트가 이미 존재하는지 확인
         if (!request.isForceRegenerate() && isReportExistsToday()) {
             log.warn("⚠️ 오늘 날짜의 리포트가 이미 존재합니다.");
@@ -191,18 +228,79 @@ public class IpTrendServiceImpl implements IpTrendService {
         log.info("   - Report ID: {}", report.getId());
         log.info("   - File Name: {}", fileName);
 
-        // Python 스크립트 비동기 실행
+        // Python 스크립트 실행 대기열에 등록
         final Long reportId = report.getId();
-        executePythonScriptAsync(reportId);
+        SubmitResult result;
+        try {
+            result = jobExecutor.submit(reportId, analysisMonth, handle -> runReportJob(reportId, handle));
+        } catch (IllegalStateException e) {
+            // 대기열 초과 -> 실행되지 않을 레코드는 남기지 않음
+            reportRepository.delete(report);
+            throw e;
+        }
+
+        if (!result.created()) {
+            // 동시에 들어온 같은 월 요청이 먼저 등록된 경우
+            reportRepository.delete(report);
+            return inFlightResponse(result.job(), fileName);
+        }
 
-        log.info("🚀 Python 스크립트 비동기 실행 시작");
+        JobSnapshot job = result.job();
+        log.info("🚀 Python 스크립트 실행 대기열 등록 (대기 순번: {})", job.queuePosition());
         log.info("===============================================");
 
         return GenerateReportResponse.builder()
                 .reportId(reportId)
                 .fileName(fileName)
                 .status("PENDING")
-                .message("리포트 생성이 시작되었습니다. 완료까지 5-10분 소요될 수 있습니다.")
+                .message(job.queuePosition() > 1
+                        ? "리포트 생성이 대기열에 등록되었습니다. (대기 순번: " + job.queuePosition() + ")"
+                        : "리포트 생성이 시작되었습니다. 완료까지 5-10분 소요될 수 있습니다.")
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void cancelReport(Long reportId) {
+        log.info("리포트 생성 취소 요청: reportId={}", reportId);
+
+        IpTrendReport report = reportRepository.findById(reportId)
+                .orElseThrow(() -> new IllegalArgumentException("리포트를 찾을 수 없습니다: " + reportId));
+
+        if (report.getStatus() != ReportStatus.PENDING) {
+            throw new IllegalStateException("생성 중인 리포트만 취소할 수 있습니다.");
+        }
+
+        // 실행 중이면 작업 스레드가 프로세스 종료 후 실패(취소) 처리
+        // 대기 중이었거나, 이 서버에 작업이 없는 레코드(재시작 등으로 남은 PENDING)는 여기서 정리
+        Optional<JobState> cancelled = jobExecutor.cancel(reportId);
+        if (cancelled.isEmpty() || cancelled.get() == JobState.QUEUED) {
+            updateReportFailure(reportId, "사용자 요청으로 취소되었습니다.");
+        }
+    }
+
+    private GenerateReportResponse inFlightResponse(JobSnapshot job, String fileName) {
+        log.info("같은 분석 월 리포트 생성이 이미 진행 중: reportId={}, state={}", job.reportId(), job.state());
+
+        return GenerateReportResponse.builder()
+                .reportId(job.reportId())
+                .fileName(fileName)
+                .status("PENDING")
+                .message(job.state() == JobState.RUNNING
+                        ? "같은 월의 리포트를 이미 생성 중입니다. (실행 " + job.runningSeconds() + "초 경과)"
+                        : "같은 월의 리포트가 이미 대기열에 있습니다. (대기 순번: " + job.queuePosition() + ")")
+                .build();
+    }
+
+    private DashboardResponse.GenerationJob toGenerationJob(JobSnapshot job) {
+        return DashboardResponse.GenerationJob.builder()
+                .reportId(job.reportId())
+                .analysisMonth(job.analysisMonth())
+                .state(job.state().name())
+                .queuePosition(job.queuePosition())
+                .enqueuedAt(job.enqueuedAt())
+                .startedAt(job.startedAt())
+                .runningSeconds(job.runningSeconds())
                 .build();
     }
 
@@ -215,92 +313,107 @@ public class IpTrendServiceImpl implements IpTrendService {
     }
 
     /**
-     * Python 스크립트 비동기 실행
+     * Python 스크립트 실행 (IpTrendJobExecutor 작업 스레드)
      */
-    private void executePythonScriptAsync(Long reportId) {
-        new Thread(() -> {
-            try {
-                log.info("===============================================");
-                log.info("Python 스크립트 실행 시작");
-                log.info("Report ID: {}", reportId);
-                log.info("===============================================");
-
-                // 작업 디렉토리 설정
-                File workingDir = new File(reportStoragePath);
-                if (!workingDir.exists()) {
-                    log.info("리포트 저장 디렉토리 생성: {}", workingDir.getAbsolutePath());
-                    boolean created = workingDir.mkdirs();
-                    if (!created) {
-                        throw new IOException("디렉토리 생성 실패: " + workingDir.getAbsolutePath());
-                    }
-                }
+    private void runReportJob(Long reportId, JobHandle handle) {
+        try {
+            log.info("===============================================");
+            log.info("Python 스크립트 실행 시작");
+            log.info("Report ID: {}", reportId);
+            log.info("===============================================");
 
-                // Python 스크립트 파일 확인
-                File scriptFile = new File(pythonScriptPath);
-                if (!scriptFile.exists()) {
-                    throw new FileNotFoundException("Python 스크립트 파일을 찾을 수 없습니다: " + pythonScriptPath);
+            // 작업 디렉토리 설정
+            File workingDir = new File(reportStoragePath);
+            if (!workingDir.exists()) {
+                log.info("리포트 저장 디렉토리 생성: {}", workingDir.getAbsolutePath());
+                boolean created = workingDir.mkdirs();
+                if (!created) {
+                    throw new IOException("디렉토리 생성 실패: " + workingDir.getAbsolutePath());
                 }
+            }
 
-                log.info("Python 실행 파일: {}", pythonExecutable);
-                log.info("스크립트 경로: {}", scriptFile.getAbsolutePath());
-                log.info("작업 디렉토리: {}", workingDir.getAbsolutePath());
+            // Python 스크립트 파일 확인
+            File scriptFile = new File(pythonScriptPath);
+            if (!scriptFile.exists()) {
+                throw new FileNotFoundException("Python 스크립트 파일을 찾을 수 없습니다: " + pythonScriptPath);
+            }
 
-                // Python 스크립트 실행
-                ProcessBuilder processBuilder = new ProcessBuilder(
-                        pythonExecutable,
-                        scriptFile.getAbsolutePath()
-                );
+            log.info("Python 실행 파일: {}", pythonExecutable);
+            log.info("스크립트 경로: {}", scriptFile.getAbsolutePath());
+            log.info("작업 디렉토리: {}", workingDir.getAbsolutePath());
 
-                processBuilder.directory(workingDir);
-                processBuilder.redirectErrorStream(true);
-
-                log.info("→ Python 프로세스 시작...");
-                Process process = processBuilder.start();
-
-                // 출력 로그 수집
-                StringBuilder output = new StringBuilder();
-                try (BufferedReader reader = new BufferedReader(
-                        new InputStreamReader(process.getInputStream(), "UTF-8"))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        output.append(line).append("\n");
-                        log.info("[Python] {}", line);
-                    }
-                }
+            // Python 스크립트 실행
+            ProcessBuilder processBuilder = new ProcessBuilder(
+                    pythonExecutable,
+                    scriptFile.getAbsolutePath()
+            );
+
+            processBuilder.directory(workingDir);
+            processBuilder.redirectErrorStream(true);
+
+            log.info("→ Python 프로세스 시작...");
+            Process process = handle.start(processBuilder);
 
-                int exitCode = process.waitFor();
-                log.info("===============================================");
-                log.info("Python 스크립트 실행 완료");
-                log.info("Exit Code: {}", exitCode);
-                log.info("===============================================");
-
-                if (exitCode == 0) {
-                    log.info("✅ 정상 종료 - 리포트 파일 확인 중...");
-                    updateReportSuccess(reportId, workingDir);
-                } else {
-                    log.error("❌ 비정상 종료 - Exit Code: {}", exitCode);
-                    log.error("Output:\n{}", output.toString());
-                    updateReportFailure(reportId, "스크립트 실행 실패 (Exit Code: " + exitCode + ")");
+            // 출력 로그 수집
+            StringBuilder output = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), "UTF-8"))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append("\n");
+                    log.info("[Python] {}", line);
                 }
+            }
 
-            } catch (FileNotFoundException e) {
-                log.error("❌ 파일을 찾을 수 없음: reportId={}", reportId, e);
-                updateReportFailure(reportId, "파일 없음: " + e.getMessage());
+            int exitCode = process.waitFor();
+            log.info("===============================================");
+            log.info("Python 스크립트 실행 완료");
+            log.info("Exit Code: {}", exitCode);
+            log.info("===============================================");
 
-            } catch (IOException e) {
-                log.error("❌ I/O 오류 발생: reportId={}", reportId, e);
-                updateReportFailure(reportId, "I/O 오류: " + e.getMessage());
+            if (handle.isCancelled() || handle.isTimedOut()) {
+                updateReportFailure(reportId, interruptedReason(handle));
+            } else if (exitCode == 0) {
+                log.info("✅ 정상 종료 - 리포트 파일 확인 중...");
+                updateReportSuccess(reportId, workingDir);
+            } else {
+                log.error("❌ 비정상 종료 - Exit Code: {}", exitCode);
+                log.error("Output:\n{}", output.toString());
+                updateReportFailure(reportId, "스크립트 실행 실패 (Exit Code: " + exitCode + ")");
+            }
 
-            } catch (InterruptedException e) {
-                log.error("❌ 프로세스 인터럽트: reportId={}", reportId, e);
-                Thread.currentThread().interrupt();
-                updateReportFailure(reportId, "프로세스 중단: " + e.getMessage());
+        } catch (CancellationException e) {
+            log.warn("프로세스 시작 전 중단된 작업: reportId={}", reportId);
+            updateReportFailure(reportId, interruptedReason(handle));
+
+        } catch (FileNotFoundException e) {
+            log.error("❌ 파일을 찾을 수 없음: reportId={}", reportId, e);
+            updateReportFailure(reportId, "파일 없음: " + e.getMessage());
 
-            } catch (Exception e) {
-                log.error("❌ 예상치 못한 오류: reportId={}", reportId, e);
-                updateReportFailure(reportId, "실행 오류: " + e.getMessage());
+        } catch (IOException e) {
+            // 취소/시간 초과로 프로세스를 종료하면 출력 스트림 읽기가 I/O 오류로 끝날 수 있음
+            if (handle.isCancelled() || handle.isTimedOut()) {
+                updateReportFailure(reportId, interruptedReason(handle));
+                return;
             }
-        }, "IpTrend-Python-Worker-" + reportId).start();
+            log.error("❌ I/O 오류 발생: reportId={}", reportId, e);
+            updateReportFailure(reportId, "I/O 오류: " + e.getMessage());
+
+        } catch (InterruptedException e) {
+            log.error("❌ 프로세스 인터럽트: reportId={}", reportId, e);
+            Thread.currentThread().interrupt();
+            updateReportFailure(reportId, "프로세스 중단: " + e.getMessage());
+
+        } catch (Exception e) {
+            log.error("❌ 예상치 못한 오류: reportId={}", reportId, e);
+            updateReportFailure(reportId, "실행 오류: " + e.getMessage());
+        }
+    }
+
+    private String interruptedReason(JobHandle handle) {
+        return handle.isCancelled()
+                ? "사용자 요청으로 취소되었습니다."
+                : "제한 시간(" + jobExecutor.getTimeout().toMinutes() + "분)을 초과하여 중단되었습니다.";
     }
 
     /**
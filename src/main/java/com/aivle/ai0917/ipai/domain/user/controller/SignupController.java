@@ -4,6 +4,7 @@ import com.aivle.ai0917.ipai.domain.admin.access.model.UserRole;
 import com.aivle.ai0917.ipai.domain.user.model.User;
 import com.aivle.ai0917.ipai.domain.user.service.UserService;
 import com.aivle.ai0917.ipai.infra.naver.service.EmailVerificationService;
+import com.aivle.ai0917.ipai.global.mail.MailThrottledException;
 import com.aivle.ai0917.ipai.global.security.jwt.JwtProvider;
 import com.aivle.ai0917.ipai.global.security.jwt.PendingSignupTokenProvider;
 import jakarta.servlet.http.Cookie;
@@ -11,7 +12,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
@@ -74,12 +77,19 @@ public class SignupController {
     }
 
     @PostMapping("/email/request")
-    public Map<String, Object> requestEmailCode(@RequestBody Map<String, String> body) {
+    public ResponseEntity<Map<String, Object>> requestEmailCode(@RequestBody Map<String, String> body) {
         String email = body.get("email");
         if (email == null || email.isBlank()) throw new RuntimeException("email이 비어있습니다.");
 
-        emailVerificationService.sendCode(email);
-        return Map.of("ok", true);
+        try {
+            emailVerificationService.sendCode(email);
+        } catch (MailThrottledException e) {
+            // 발송 한도 초과/대기열 포화 -> 429 + 재요청 가능 시각
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(Map.of("ok", false, "message", e.getMessage()));
+        }
+        return ResponseEntity.ok(Map.of("ok", true));
     }
 
     @PostMapping("/email/verify")
@@ -111,7 +121,11 @@ public class SignupController {
         // ✅ Service 통해 사용자 존재 확인
         boolean exists = userService.getUserByNameAndSiteEmail(name, siteEmail).isPresent();
         if (exists) {
-            emailVerificationService.sendCode(siteEmail);
+            try {
+                emailVerificationService.sendCode(siteEmail);
+            } catch (IllegalStateException ignored) {
+                // 발송 한도 초과도 같은 응답 (오류 응답으로 계정 존재 여부가 드러나지 않도록)
+            }
         }
 
         // ✅ 보안상 존재/미존재 구분 없이 동일 응답 권장
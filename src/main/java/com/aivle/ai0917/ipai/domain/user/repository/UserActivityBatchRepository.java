@@ -0,0 +1,59 @@
+package com.aivle.ai0917.ipai.domain.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 활동 시각(last_activity_at) 일괄 갱신용 JDBC 저장소
+ * - 여러 사용자의 활동 시각을 multi-row VALUES 한 문장으로 보내서 왕복 1회로 끝낸다.
+ * - 탈퇴(Deactivated) 계정은 갱신하지 않는다. (기존 LastActivityInterceptor 동작 유지)
+ * - 이미 더 최근 값이 있으면 덮어쓰지 않는다. (여러 인스턴스가 각자 flush 하는 경우)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserActivityBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param activities userId -> 마지막 활동 시각
+     * @return 갱신된 행 수
+     */
+    public int updateLastActivities(List<Map.Entry<Long, LocalDateTime>> activities) {
+        if (activities.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("""
+                UPDATE users u
+                SET last_activity_at = v.ts
+                FROM (VALUES
+                """);
+        for (int i = 0; i < activities.size(); i++) {
+            sql.append(i == 0 ? "" : ",").append("(CAST(? AS BIGINT), CAST(? AS TIMESTAMP))");
+        }
+        sql.append("""
+                ) AS v(id, ts)
+                WHERE u.id = v.id
+                  AND u.role <> 'Deactivated'
+                  AND (u.last_activity_at IS NULL OR u.last_activity_at < v.ts)
+                """);
+
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int idx = 1;
+            for (Map.Entry<Long, LocalDateTime> activity : activities) {
+                ps.setLong(idx++, activity.getKey());
+                ps.setTimestamp(idx++, Timestamp.valueOf(activity.getValue()));
+            }
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.aivle.ai0917.ipai.domain.user.scheduler;
+
+import com.aivle.ai0917.ipai.domain.user.repository.UserActivityBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 활동 시각 write-behind 추적기
+ * - 요청 경로(LastActivityInterceptor)에서는 메모리 맵에 마지막 활동 시각만 기록한다. (DB 조회/갱신 없음)
+ * - 주기적으로 모인 값을 꺼내 한 번의 일괄 UPDATE로 반영한다.
+ * - DB 반영이 실패하면 값을 다시 맵에 돌려놓고 다음 주기에 재시도한다.
+ * - 활동 시각은 최대 flush 주기만큼 늦게 반영된다. (활성 사용자 기준이 1시간이므로 영향 없음)
+ */
+@Slf4j
+@Component
+public class UserActivityTracker {
+
+    private final UserActivityBatchRepository activityBatchRepository;
+    private final int batchSize;
+
+    // userId -> 마지막 활동 시각(epoch millis), ConcurrentHashMap은 버킷 단위로 잠그므로 요청 간 경합이 거의 없음
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public UserActivityTracker(
+            UserActivityBatchRepository activityBatchRepository,
+            @Value("${user-activity.flush-batch-size:500}") int batchSize) {
+        this.activityBatchRepository = activityBatchRepository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 활동 기록 (요청마다 호출, I/O 없음)
+     */
+    public void record(Long userId) {
+        pending.merge(userId, System.currentTimeMillis(), Math::max);
+    }
+
+    @Scheduled(initialDelay = 10000, fixedDelayString = "${user-activity.flush-interval-ms:30000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 꺼내는 동안 들어온 기록은 다음 주기에 반영
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            Long millis = pending.remove(userId);
+            if (millis != null) {
+                batch.add(new AbstractMap.SimpleImmutableEntry<>(userId, toLocalDateTime(millis)));
+            }
+        }
+
+        int updated = 0;
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<Map.Entry<Long, LocalDateTime>> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            try {
+                updated += activityBatchRepository.updateLastActivities(chunk);
+            } catch (Exception e) {
+                log.warn("사용자 활동 시각 일괄 갱신 실패, 다음 주기에 재시도: {}명, error={}", chunk.size(), e.getMessage());
+                chunk.forEach(entry -> pending.merge(entry.getKey(), toEpochMillis(entry.getValue()), Math::max));
+            }
+        }
+        log.debug("사용자 활동 시각 일괄 갱신: 대상 {}명, 갱신 {}건", batch.size(), updated);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
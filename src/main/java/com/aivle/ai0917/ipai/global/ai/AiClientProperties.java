@@ -0,0 +1,65 @@
+package com.aivle.ai0917.ipai.global.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * application.yaml의 ai.client.* 설정 바인딩
+ * - aiWebClient의 커넥션 풀 / 타임아웃 / 버퍼 크기를 기본값에 맡기지 않고 명시적으로 잡기 위한 설정
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.client")
+public class AiClientProperties {
+
+    // TCP 연결 수립 제한 시간
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    // HTTP keep-alive 사용 여부 (커넥션 재사용)
+    private boolean keepAlive = true;
+
+    // 엔드포인트별 설정이 없을 때 적용할 응답 대기 시간
+    private Duration defaultResponseTimeout = Duration.ofSeconds(60);
+
+    // 엔드포인트별 응답 대기 시간 (키: "/setting" 처럼 AI 서버 경로 그대로)
+    private Map<String, Duration> responseTimeouts = new HashMap<>();
+
+    // 응답 본문을 메모리에 모을 수 있는 최대 크기 (/novel_read 원문, /ipproposal PDF)
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(16);
+
+    private Pool pool = new Pool();
+
+    public Duration responseTimeoutFor(String endpoint) {
+        return responseTimeouts.getOrDefault(endpoint, defaultResponseTimeout);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // 동시에 열 수 있는 최대 커넥션 수
+        private int maxConnections = 50;
+
+        // 커넥션을 기다릴 수 있는 최대 대기 요청 수 (초과 시 즉시 실패)
+        private int pendingAcquireMaxCount = 200;
+
+        // 커넥션 획득 대기 시간
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+
+        // 유휴 커넥션 유지 시간 (AI 서버/LB의 idle timeout보다 짧게)
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        // 커넥션 최대 수명
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        // 백그라운드 유휴 커넥션 정리 주기
+        private Duration evictInBackground = Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,161 @@
+package com.aivle.ai0917.ipai.global.ai;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * AI 서버(FastAPI) 공용 호출 게이트웨이
+ * - 모든 AI 클라이언트는 이 게이트웨이를 통해서만 aiWebClient를 사용한다.
+ * - 결과를 block() 하지 않고 Mono로 돌려주므로, 컨트롤러까지 Mono를 그대로 반환하면
+ *   Spring MVC 비동기 처리로 넘어가 AI 응답을 기다리는 동안 Tomcat 요청 스레드를 점유하지 않는다.
+ * - 엔드포인트마다 벌크헤드(동시 호출 수 제한)와 서킷 브레이커를 적용해,
+ *   AI 서버가 느려지거나 실패가 누적되면 요청을 쌓아두지 않고 AiServiceUnavailableException으로 즉시 실패시킨다.
+ *   (인스턴스 이름: "/novel_save" -> "novel-save", 설정은 application.yaml의 resilience4j.*)
+ * - 파일 프록시(exchange)는 같은 엔드포인트라도 별도 인스턴스("/ipproposal" -> "ipproposal-download")를 쓴다.
+ *   (오래 걸리는 생성 요청이 한도를 다 쓰거나 브레이커를 열어도 다운로드는 막히지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiGateway {
+
+    private final WebClient aiWebClient;
+    private final AiClientProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    private static final String DOWNLOAD_SUFFIX = "-download";
+
+    /**
+     * JSON 바디 POST 요청
+     */
+    public <T> Mono<T> post(String endpoint, Object body, Class<T> responseType) {
+        return guard(endpoint, aiWebClient.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .httpRequest(request -> applyResponseTimeout(request, endpoint))
+                .retrieve()
+                .bodyToMono(responseType)
+                .doOnSubscribe(s -> log.debug("AI 요청 시작: POST {}", endpoint)));
+    }
+
+    /**
+     * 쿼리 파라미터 GET 요청
+     */
+    public <T> Mono<T> get(String endpoint, Map<String, ?> queryParams, MediaType accept, Class<T> responseType) {
+        return guard(endpoint, getSpec(endpoint, queryParams, accept)
+                .retrieve()
+                .bodyToMono(responseType)
+                .doOnSubscribe(s -> log.debug("AI 요청 시작: GET {}", endpoint)));
+    }
+
+    /**
+     * 쿼리 파라미터 GET 요청 - 응답 본문을 모으지 않고 DataBuffer 스트림 그대로 반환
+     * (큰 원문/PDF를 한 번에 메모리에 올리지 않기 위함, 소비 측에서 DataBuffer 해제 책임)
+     */
+    public Flux<DataBuffer> stream(String endpoint, Map<String, ?> queryParams, MediaType accept) {
+        return guard(endpoint, getSpec(endpoint, queryParams, accept)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .doOnSubscribe(s -> log.debug("AI 스트리밍 요청 시작: GET {}", endpoint)));
+    }
+
+    /**
+     * 쿼리 파라미터 GET 요청 - 상태 코드/헤더와 본문 DataBuffer 스트림을 함께 반환 (파일 프록시용)
+     * - Range 등 요청 헤더를 그대로 전달하고, 206/416 응답도 오류로 바꾸지 않는다.
+     * - 벌크헤드/서킷 브레이커는 응답 헤더 수신까지만 적용 (본문 전송 시간은 포함되지 않음)
+     * - 벌크헤드/서킷 브레이커 인스턴스는 "{엔드포인트}-download" (같은 엔드포인트의 POST 호출과 분리)
+     */
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exchange(
+            String endpoint, Map<String, ?> queryParams, MediaType accept, HttpHeaders requestHeaders) {
+        return guard(endpoint, instanceName(endpoint) + DOWNLOAD_SUFFIX, getSpec(endpoint, queryParams, accept)
+                .headers(headers -> headers.addAll(requestHeaders))
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(),
+                        response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .doOnSubscribe(s -> log.debug("AI 스트리밍 요청 시작: GET {} (headers={})", endpoint, requestHeaders.keySet())));
+    }
+
+    private WebClient.RequestHeadersSpec<?> getSpec(String endpoint, Map<String, ?> queryParams, MediaType accept) {
+        return aiWebClient.get()
+                .uri(uriBuilder -> {
+                    uriBuilder.path(endpoint);
+                    queryParams.forEach((name, value) -> uriBuilder.queryParam(name, value));
+                    return uriBuilder.build();
+                })
+                .accept(accept)
+                .httpRequest(request -> applyResponseTimeout(request, endpoint));
+    }
+
+    // 벌크헤드(바깥) -> 서킷 브레이커(안쪽) 순으로 감싼다. 벌크헤드 거절은 브레이커 실패율에 포함되지 않음
+    private <T> Mono<T> guard(String endpoint, Mono<T> call) {
+        return guard(endpoint, instanceName(endpoint), call);
+    }
+
+    private <T> Mono<T> guard(String endpoint, String instance, Mono<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(instance);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(instance);
+
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> toRejection(endpoint, circuitBreaker, bulkhead, e));
+    }
+
+    private <T> Flux<T> guard(String endpoint, Flux<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(instanceName(endpoint));
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(instanceName(endpoint));
+
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> toRejection(endpoint, circuitBreaker, bulkhead, e));
+    }
+
+    private Throwable toRejection(String endpoint, CircuitBreaker circuitBreaker, Bulkhead bulkhead, Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            log.warn("AI 서킷 브레이커 OPEN으로 호출 차단: endpoint={}, state={}", endpoint, circuitBreaker.getState());
+            return new AiServiceUnavailableException(endpoint, "최근 실패/지연이 많아 일시적으로 요청을 받지 않습니다.");
+        }
+        if (e instanceof BulkheadFullException) {
+            log.warn("AI 동시 호출 한도 초과로 호출 차단: endpoint={}, max={}",
+                    endpoint, bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+            return new AiServiceUnavailableException(endpoint, "동시 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return e;
+    }
+
+    private String instanceName(String endpoint) {
+        return endpoint.replaceFirst("^/", "").toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    // 엔드포인트별 응답 대기 시간 적용 (Reactor Netty 요청 단위 설정)
+    private void applyResponseTimeout(ClientHttpRequest request, String endpoint) {
+        HttpClientRequest nativeRequest = request.getNativeRequest();
+        nativeRequest.responseTimeout(properties.responseTimeoutFor(endpoint));
+    }
+}
@@ -0,0 +1,23 @@
+package com.aivle.ai0917.ipai.global.ai;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * AI 엔드포인트 보호 장치(서킷 브레이커 / 벌크헤드)가 호출을 거절했을 때 발생
+ * - AI 서버를 기다리지 않고 즉시 실패시키므로 503으로 응답한다.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class AiServiceUnavailableException extends RuntimeException {
+
+    private final String endpoint;
+
+    public AiServiceUnavailableException(String endpoint, String reason) {
+        super("AI 서버 호출 차단 (" + endpoint + "): " + reason);
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
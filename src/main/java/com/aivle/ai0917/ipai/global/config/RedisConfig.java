@@ -0,0 +1,23 @@
+package com.aivle.ai0917.ipai.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 수신 컨테이너 (인스턴스 간 이벤트 전달용)
+ * - 구독할 토픽은 각 리스너가 직접 등록한다. (예: SseRelay)
+ */
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // Redis 재시작 시 재구독 시도 간격
+        container.setRecoveryInterval(5000L);
+        return container;
+    }
+}
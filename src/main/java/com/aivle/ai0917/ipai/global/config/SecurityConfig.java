@@ -1,8 +1,9 @@
 package com.aivle.ai0917.ipai.global.config;
 
 import com.aivle.ai0917.ipai.global.security.jwt.JwtAuthFilter;
-import com.aivle.ai0917.ipai.global.security.jwt.JwtProvider;
+import com.aivle.ai0917.ipai.global.security.jwt.VerifiedTokenCache;
 import com.aivle.ai0917.ipai.global.security.token.TokenBlacklistService;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.ServletException;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,9 +35,8 @@ import java.util.List;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, JwtProvider jwtProvider
-//            , TokenBlacklistService tokenBlacklistService
-    ) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, VerifiedTokenCache verifiedTokenCache,
+                                           TokenBlacklistService tokenBlacklistService) throws Exception {
 
         http
                 // ✅ Security 레벨 CORS
@@ -56,6 +56,9 @@ public class SecurityConfig {
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(auth -> auth
+                        // ✅ AI 응답(Mono)을 돌려주는 비동기 디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                         // ✅ Preflight는 항상 통과
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
@@ -126,7 +129,7 @@ public class SecurityConfig {
         // 보통은 CSRF와 무관하지만, 확실히 하려면 아래처럼 CsrfFilter 앞에 둬도 OK
 //        http.addFilterBefore(new JwtAuthFilter(jwtProvider, tokenBlacklistService), CsrfFilter.class);
         // 또는 기존처럼:
-         http.addFilterBefore(new JwtAuthFilter(jwtProvider), UsernamePasswordAuthenticationFilter.class);
+         http.addFilterBefore(new JwtAuthFilter(verifiedTokenCache, tokenBlacklistService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,20 +1,57 @@
 package com.aivle.ai0917.ipai.global.config;
 
 
+import com.aivle.ai0917.ipai.global.ai.AiClientProperties;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class WebAiConfig {
     @Value("${ai.server.base-url}")
     private String aiBaseUrl;
 
+    /**
+     * AI 서버 전용 커넥션 풀 (기본 공유 풀과 분리)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider(AiClientProperties properties) {
+        AiClientProperties.Pool pool = properties.getPool();
+        return ConnectionProvider.builder("ai-server")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .build();
+    }
+
     @Bean
-    public WebClient aiWebClient() {
+    public WebClient aiWebClient(ConnectionProvider aiConnectionProvider, AiClientProperties properties) {
+        HttpClient httpClient = HttpClient.create(aiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                // 엔드포인트별 값은 AiGateway에서 요청 단위로 덮어씀
+                .responseTimeout(properties.getDefaultResponseTimeout());
+
+        // 원문 전체(/novel_read)나 PDF(/ipproposal)를 받을 수 있도록 코덱 버퍼 한도 조정 (기본 256KB)
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .build();
+
         return WebClient.builder()
                 .baseUrl(aiBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
                 .build();
     }
-}
\ No newline at end of file
+}
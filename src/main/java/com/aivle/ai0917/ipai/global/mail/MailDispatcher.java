@@ -0,0 +1,219 @@
+package com.aivle.ai0917.ipai.global.mail;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.*;
+
+/**
+ * 메일 비동기 발송기
+ * - 요청 스레드는 대기열에 넣고 바로 반환한다. (SMTP 지연이 가입/비밀번호 재설정 응답 시간에 포함되지 않음)
+ * - 워커 스레드마다 SMTP 연결을 하나씩 유지해서 재사용하고, idle-timeout 동안 보낼 메일이 없으면 닫는다.
+ * - 일시적인 발송 실패는 지수 백오프로 재시도 (주소 오류 등 SendFailedException은 재시도하지 않음)
+ * - 같은 수신자에게는 최소 간격 + 시간당 최대 건수까지만 발송 (인증 코드 요청 남용 방지, 인스턴스 간 공유: MailRateLimiter)
+ *   한도 차감(acquire) 뒤 코드 저장/대기열 등록이 실패하면 release로 되돌린다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private record MailTask(SimpleMailMessage message, int attempt) {}
+
+    // 종료 시 대기 중인 워커를 깨우는 표식 (대기열 끝에 넣으므로 앞선 메일은 모두 보낸 뒤 종료)
+    private static final MailTask STOP = new MailTask(null, 0);
+
+    // 대기열 포화 시 재요청 안내 간격
+    private static final long QUEUE_FULL_RETRY_AFTER_SECONDS = 5;
+
+    private final JavaMailSender mailSender;
+    private final MailRateLimiter rateLimiter;
+    private final Duration idleTimeout;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+
+    private final BlockingQueue<MailTask> queue;
+    private final int workers;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService retryScheduler;
+
+    private volatile boolean stopping;
+
+    public MailDispatcher(
+            JavaMailSender mailSender,
+            MailRateLimiter rateLimiter,
+            @Value("${mail-dispatch.workers:2}") int workers,
+            @Value("${mail-dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${mail-dispatch.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${mail-dispatch.max-attempts:3}") int maxAttempts,
+            @Value("${mail-dispatch.retry-delay:5s}") Duration retryDelay) {
+        this.mailSender = mailSender;
+        this.rateLimiter = rateLimiter;
+        this.idleTimeout = idleTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+
+        this.workers = workers;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("mail-worker-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mail-retry-"));
+
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::workLoop);
+        }
+    }
+
+    /**
+     * 수신자별 발송 한도 확인 + 차감
+     * - 인증 코드를 저장하기 전에 호출해야 함 (한도 초과로 거절됐는데 기존 코드가 덮어써지지 않도록)
+     * - 한도 초과 또는 대기열이 가득 차면 MailThrottledException (재요청 가능 시각 포함)
+     */
+    public MailRateLimiter.Permit acquire(String recipient) {
+        if (queue.remainingCapacity() == 0) {
+            throw new MailThrottledException("메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.",
+                    QUEUE_FULL_RETRY_AFTER_SECONDS);
+        }
+        return rateLimiter.acquire(recipient);
+    }
+
+    /**
+     * acquire로 차감한 한도를 되돌림 (코드 저장/대기열 등록 실패 시)
+     */
+    public void release(MailRateLimiter.Permit permit) {
+        rateLimiter.release(permit);
+    }
+
+    /**
+     * 발송 대기열에 등록 (바로 반환), 대기열이 가득 차거나 종료 중이면 MailThrottledException
+     */
+    public void submit(SimpleMailMessage message) {
+        if (stopping || !queue.offer(new MailTask(message, 1))) {
+            throw new MailThrottledException("메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.",
+                    QUEUE_FULL_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private void workLoop() {
+        Transport transport = null;
+        try {
+            while (!(stopping && queue.isEmpty())) {
+                MailTask task;
+                try {
+                    task = queue.poll(idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (task == STOP) {
+                    break;
+                }
+                if (task == null) {
+                    // 한동안 보낼 메일이 없으면 SMTP 연결 반납
+                    transport = close(transport);
+                    continue;
+                }
+
+                try {
+                    transport = deliver(transport, task.message());
+                } catch (Exception e) {
+                    // 연결이 깨졌을 수 있으므로 다음 발송은 새 연결로
+                    transport = close(transport);
+                    handleFailure(task, e);
+                }
+            }
+        } finally {
+            close(transport);
+        }
+    }
+
+    /**
+     * 재사용 중인 연결로 발송 (끊겨 있으면 다시 연결), 사용한 연결을 반환
+     */
+    private Transport deliver(Transport transport, SimpleMailMessage message) throws MessagingException {
+        if (!(mailSender instanceof JavaMailSenderImpl sender)) {
+            // 연결을 직접 다룰 수 없는 구현체 -> 건별 발송
+            mailSender.send(message);
+            return transport;
+        }
+
+        MimeMessage mime = sender.createMimeMessage();
+        message.copyTo(new MimeMailMessage(mime));
+        if (mime.getSentDate() == null) {
+            mime.setSentDate(new Date());
+        }
+        mime.saveChanges();
+
+        if (transport == null || !transport.isConnected()) {
+            close(transport);
+            transport = sender.getSession().getTransport(sender.getProtocol());
+            transport.connect(sender.getHost(), sender.getPort(), sender.getUsername(), sender.getPassword());
+        }
+        transport.sendMessage(mime, mime.getAllRecipients());
+        return transport;
+    }
+
+    private void handleFailure(MailTask task, Exception e) {
+        String to = String.join(",", task.message().getTo() != null ? task.message().getTo() : new String[0]);
+
+        if (e instanceof SendFailedException || task.attempt() >= maxAttempts || stopping) {
+            log.error("메일 발송 실패 (포기): to={}, attempt={}", to, task.attempt(), e);
+            return;
+        }
+
+        // 1회차 실패 후 retryDelay, 이후 2배씩
+        long delay = retryDelay.toMillis() << (task.attempt() - 1);
+        log.warn("메일 발송 실패, {}ms 후 재시도: to={}, attempt={}, cause={}", delay, to, task.attempt(), e.toString());
+
+        MailTask retry = new MailTask(task.message(), task.attempt() + 1);
+        try {
+            retryScheduler.schedule(() -> {
+                if (!queue.offer(retry)) {
+                    log.error("메일 재시도 대기열 초과, 발송 누락: to={}", to);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            log.error("메일 재시도 등록 실패 (종료 중), 발송 누락: to={}", to);
+        }
+    }
+
+    private Transport close(Transport transport) {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패", e);
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 대기 중인 메일은 최대한 보내고 종료
+        stopping = true;
+        retryScheduler.shutdownNow();
+        // poll에서 기다리는 워커를 바로 깨움 (대기열이 가득 차서 못 넣으면 워커가 비울 때 루프 조건으로 종료)
+        for (int i = 0; i < workers; i++) {
+            queue.offer(STOP);
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            queue.removeIf(task -> task == STOP);
+            log.warn("메일 발송 대기열 {}건을 보내지 못하고 종료합니다.", queue.size());
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.aivle.ai0917.ipai.global.mail;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수신자별 메일 발송 한도 (최소 간격 + 시간당 최대 건수)
+ * - 기록은 Redis에 두어 모든 인스턴스가 같은 한도를 공유한다. (인증 코드 키 email:code:* 옆의 email:rate:*)
+ *   - email:rate:{수신자}:last  마지막 발송 표식, TTL = 최소 간격
+ *   - email:rate:{수신자}:hour  1시간 고정 구간 발송 수, TTL = 구간 남은 시간
+ *   확인과 차감은 Lua 스크립트 한 번으로 처리 (동시 요청이 한도를 함께 넘지 않도록)
+ * - Redis 장애 시에는 이 인스턴스 메모리 기준으로 제한한다. (인스턴스 수만큼 한도가 늘어날 수 있음)
+ */
+@Slf4j
+@Component
+public class MailRateLimiter {
+
+    private static final String KEY_PREFIX = "email:rate:";
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    // 반환: {0, 발송 수} 허용 / {1, 남은 ms} 최소 간격 미달 / {2, 남은 ms} 시간당 한도 초과
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local wait = redis.call('PTTL', KEYS[1])
+            if wait > 0 then return {1, wait} end
+            local count = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if count >= tonumber(ARGV[3]) then return {2, redis.call('PTTL', KEYS[2])} end
+            count = redis.call('INCR', KEYS[2])
+            if count == 1 then redis.call('PEXPIRE', KEYS[2], ARGV[4]) end
+            if tonumber(ARGV[2]) > 0 then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) end
+            return {0, count}
+            """, List.class);
+
+    // 발송 수를 되돌리고, 마지막 발송 표식이 이 요청 것이면 지움 (TTL은 유지)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then redis.call('DEL', KEYS[1]) end
+            local count = tonumber(redis.call('GET', KEYS[2]) or '0')
+            if count > 0 then return redis.call('DECR', KEYS[2]) end
+            return 0
+            """, Long.class);
+
+    /**
+     * 한도 차감 내역 (실패 시 release로 되돌리기 위한 값)
+     * - sharedToken != null: Redis에서 차감 (마지막 발송 표식 값)
+     * - sharedToken == null: Redis 장애로 이 인스턴스 메모리에서 차감
+     */
+    public record Permit(String recipient, String sharedToken,
+                         long windowStartedAt, long previousSentAt, long acquiredAt) {}
+
+    // Redis 장애 시 사용하는 이 인스턴스의 수신자별 기록 (1시간 고정 구간), 접근은 인스턴스로 동기화
+    private static final class RecipientWindow {
+        private long windowStartedAt;
+        private int count;
+        private long lastSentAt;
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration minInterval;
+    private final int maxPerHour;
+    private final Cache<String, RecipientWindow> localWindows;
+
+    public MailRateLimiter(
+            StringRedisTemplate redisTemplate,
+            @Value("${mail-dispatch.rate-limit.min-interval:30s}") Duration minInterval,
+            @Value("${mail-dispatch.rate-limit.max-per-hour:10}") int maxPerHour) {
+        this.redisTemplate = redisTemplate;
+        this.minInterval = minInterval;
+        this.maxPerHour = maxPerHour;
+        this.localWindows = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(1))
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 한도 확인 + 차감, 초과 시 MailThrottledException (재요청 가능 시각 포함)
+     */
+    public Permit acquire(String recipient) {
+        List<?> result;
+        String token = UUID.randomUUID().toString();
+        try {
+            result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(lastKey(recipient), hourKey(recipient)),
+                    token, String.valueOf(minInterval.toMillis()), String.valueOf(maxPerHour),
+                    String.valueOf(HOUR_MILLIS));
+        } catch (Exception e) {
+            log.warn("메일 발송 한도 Redis 조회 실패, 이 인스턴스 기준으로 제한합니다: {}", e.getMessage());
+            return acquireLocal(recipient);
+        }
+
+        long code = ((Number) result.get(0)).longValue();
+        long value = ((Number) result.get(1)).longValue();
+        if (code == 1) {
+            throw intervalExceeded(toSeconds(value));
+        }
+        if (code == 2) {
+            throw hourlyExceeded(toSeconds(value));
+        }
+        return new Permit(recipient, token, 0L, 0L, System.currentTimeMillis());
+    }
+
+    /**
+     * acquire로 차감한 한도를 되돌림 (코드 저장/대기열 등록 실패 시)
+     * - 그 사이 구간이 바뀌었거나 다른 요청이 차감했으면 그 요청의 기록은 건드리지 않음
+     */
+    public void release(Permit permit) {
+        if (permit.sharedToken() == null) {
+            releaseLocal(permit);
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT,
+                    List.of(lastKey(permit.recipient()), hourKey(permit.recipient())), permit.sharedToken());
+        } catch (Exception e) {
+            log.warn("메일 발송 한도 되돌리기 실패: {}", e.getMessage());
+        }
+    }
+
+    private Permit acquireLocal(String recipient) {
+        long now = System.currentTimeMillis();
+        RecipientWindow window = localWindows.get(recipient, key -> new RecipientWindow());
+        synchronized (window) {
+            if (now - window.windowStartedAt >= HOUR_MILLIS) {
+                window.windowStartedAt = now;
+                window.count = 0;
+            }
+            if (window.count > 0 && now - window.lastSentAt < minInterval.toMillis()) {
+                throw intervalExceeded(toSeconds(minInterval.toMillis() - (now - window.lastSentAt)));
+            }
+            if (window.count >= maxPerHour) {
+                throw hourlyExceeded(toSeconds(window.windowStartedAt + HOUR_MILLIS - now));
+            }
+            Permit permit = new Permit(recipient, null, window.windowStartedAt, window.lastSentAt, now);
+            window.count++;
+            window.lastSentAt = now;
+            return permit;
+        }
+    }
+
+    private void releaseLocal(Permit permit) {
+        RecipientWindow window = localWindows.getIfPresent(permit.recipient());
+        if (window == null) {
+            return;
+        }
+        synchronized (window) {
+            if (window.windowStartedAt != permit.windowStartedAt() || window.count == 0) {
+                return;
+            }
+            window.count--;
+            if (window.lastSentAt == permit.acquiredAt()) {
+                window.lastSentAt = permit.previousSentAt();
+            }
+        }
+    }
+
+    private static MailThrottledException intervalExceeded(long waitSeconds) {
+        return new MailThrottledException("잠시 후 다시 시도하세요. (" + waitSeconds + "초 후 재요청 가능)", waitSeconds);
+    }
+
+    private static MailThrottledException hourlyExceeded(long waitSeconds) {
+        return new MailThrottledException("요청 횟수를 초과했습니다. 1시간 후 다시 시도하세요.", waitSeconds);
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static String lastKey(String recipient) {
+        return KEY_PREFIX + recipient + ":last";
+    }
+
+    private static String hourKey(String recipient) {
+        return KEY_PREFIX + recipient + ":hour";
+    }
+}
@@ -0,0 +1,19 @@
+package com.aivle.ai0917.ipai.global.mail;
+
+/**
+ * 수신자별 발송 한도 초과 또는 발송 대기열 포화로 메일 요청을 거절할 때 발생
+ * - 컨트롤러에서 429 + Retry-After(retryAfterSeconds)로 응답한다.
+ */
+public class MailThrottledException extends IllegalStateException {
+
+    private final long retryAfterSeconds;
+
+    public MailThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,11 +1,8 @@
 package com.aivle.ai0917.ipai.global.security.interceptor;
 
-import com.aivle.ai0917.ipai.domain.admin.access.model.UserRole;
-import com.aivle.ai0917.ipai.domain.user.model.User;
-import com.aivle.ai0917.ipai.domain.user.repository.UserRepository;
+import com.aivle.ai0917.ipai.domain.user.scheduler.UserActivityTracker;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -13,17 +10,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.time.LocalDateTime;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LastActivityInterceptor implements HandlerInterceptor {
 
-    private final UserRepository userRepository;
+    private final UserActivityTracker userActivityTracker;
 
     @Override
-    @Transactional
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -36,21 +30,10 @@ public class LastActivityInterceptor implements HandlerInterceptor {
         Object principal = auth.getPrincipal();
 
         // 2. Principal이 Long(UserId)인 경우에만 로직 수행
+        // - 요청마다 DB를 조회/갱신하지 않고 메모리에만 기록, UserActivityTracker가 주기적으로 일괄 반영
+        // - 탈퇴(Deactivated) 계정 제외는 일괄 UPDATE 조건에서 처리
         if (principal instanceof Long userId) {
-            userRepository.findById(userId).ifPresent(user -> {
-
-                // 최근 1분 이내면 업데이트 스킵
-                if (user.getRole() == UserRole.Deactivated) {
-                    return;
-                }
-                if (user.getLastActivityAt() == null ||
-                        user.getLastActivityAt().isBefore(LocalDateTime.now().minusMinutes(1))) {
-
-                    userRepository.updateLastActivity(userId, LocalDateTime.now());
-
-                    log.info("사용자(ID: {}) 활동 시각 갱신 완료", userId);
-                }
-            });
+            userActivityTracker.record(userId);
         } else {
             // principal이 Long이 아닌 경우(예: "anonymousUser" 문자열) 로그
             log.debug("인증은 되었으나 Principal이 Long 타입이 아님: {}", principal);
@@ -58,4 +41,4 @@ public class LastActivityInterceptor implements HandlerInterceptor {
 
         return true;
     }
-}
\ No newline at end of file
+}
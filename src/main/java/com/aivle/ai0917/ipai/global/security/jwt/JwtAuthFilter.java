@@ -1,8 +1,8 @@
 package com.aivle.ai0917.ipai.global.security.jwt;
 
-//import com.aivle.ai0917.ipai.global.security.token.TokenBlacklistService;
-
-import io.jsonwebtoken.Claims;
+import com.aivle.ai0917.ipai.global.security.jwt.VerifiedTokenCache.VerifiedToken;
+import com.aivle.ai0917.ipai.global.security.token.TokenBlacklistService;
+import com.aivle.ai0917.ipai.global.security.token.TokenHashes;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -23,15 +23,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
 
     private static final String ACCESS_COOKIE = "accessToken";
-    private final JwtProvider jwtProvider;
-//    private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistService tokenBlacklistService;
 
 
-    public JwtAuthFilter(JwtProvider jwtProvider
-//            , TokenBlacklistService tokenBlacklistService
-    ) {
-        this.jwtProvider = jwtProvider;
-//        this.tokenBlacklistService = tokenBlacklistService;
+    public JwtAuthFilter(VerifiedTokenCache verifiedTokenCache,
+                         TokenBlacklistService tokenBlacklistService) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenBlacklistService = tokenBlacklistService;
     }
 
     @Override
@@ -45,8 +44,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         String token = resolveFromCookie(request);
         boolean tokenPresent = (token != null && !token.isBlank());
 
-        // ✅ 1) 요청 + 토큰 존재 여부 로그
-        log.info("[JwtAuthFilter] {} {} tokenPresent={}", method, uri, tokenPresent);
+        // ✅ 1) 요청 + 토큰 존재 여부 로그 (요청마다 찍히므로 DEBUG)
+        log.debug("[JwtAuthFilter] {} {} tokenPresent={}", method, uri, tokenPresent);
 
         // ✅ 토큰이 없으면 인증 없이 통과
         if (!tokenPresent) {
@@ -54,32 +53,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-//        if (tokenBlacklistService.isBlacklisted(token)) {
-//            SecurityContextHolder.clearContext();
-//            log.warn("[JwtAuthFilter] token is blacklisted");
-//            filterChain.doFilter(request, response);
-//            return;
-//        }
-
-        try {
-            Claims claims = jwtProvider.parse(token);
+        // 블랙리스트와 검증 캐시가 같은 해시를 키로 쓰므로 요청당 한 번만 계산
+        String tokenHash = TokenHashes.sha256(token);
 
-            Long userId = Long.valueOf(claims.getSubject());
-            String roleClaim = String.valueOf(claims.get("role"));
-
-            // ✅ 2) 파싱 성공 로그
-            log.info("[JwtAuthFilter] parsed userId={}, roleClaim={}", userId, roleClaim);
+        // ✅ 로그아웃/탈퇴로 폐기된 토큰 (검증 캐시보다 먼저 확인해야 캐시된 토큰도 막힘)
+        // - 로컬 목록으로 판단하므로 요청마다 Redis를 조회하지 않음
+        if (tokenBlacklistService.isBlacklistedHash(tokenHash)) {
+            SecurityContextHolder.clearContext();
+            log.warn("[JwtAuthFilter] token is blacklisted");
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-            // ✅ 3) Spring Security 관례: ROLE_ 접두어 통일
-            // - 토큰에 "Author" 들어있으면 -> "ROLE_Author"로 세팅
-            String authority = roleClaim.startsWith("ROLE_") ? roleClaim : "ROLE_" + roleClaim;
+        try {
+            // ✅ 2) 서명/만료 검증 (같은 토큰이 다시 오면 캐시된 검증 결과 사용)
+            // - ROLE_ 접두어 통일도 캐시에 넣을 때 처리 (토큰에 "Author" -> "ROLE_Author")
+            VerifiedToken verified = verifiedTokenCache.verify(token, tokenHash);
 
-            var authorities = List.of(new SimpleGrantedAuthority(authority));
-            var authentication = new UsernamePasswordAuthenticationToken(userId, null, authorities);
+            var authorities = List.of(new SimpleGrantedAuthority(verified.authority()));
+            var authentication = new UsernamePasswordAuthenticationToken(verified.userId(), null, authorities);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.info("[JwtAuthFilter] auth set ok, authority={}", authority);
+            log.debug("[JwtAuthFilter] auth set ok, userId={}, authority={}", verified.userId(), verified.authority());
 
         } catch (Exception e) {
             // 만료/위조 등 -> 인증 제거
@@ -1,14 +1,15 @@
 package com.aivle.ai0917.ipai.global.security.jwt;
 
-//import java.time.Duration;
 import com.aivle.ai0917.ipai.domain.admin.access.model.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 
@@ -23,9 +24,15 @@ public class JwtProvider {
     private final SecretKey key;
     private final JwtProperties props;
 
+    // 파서는 불변/스레드 안전하므로 한 번만 만들어서 재사용
+    private final JwtParser parser;
+
     public JwtProvider(JwtProperties props) {
         this.props = props;
         this.key = Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     /** 우리 서비스 Access Token(JWT) 생성 */
@@ -58,23 +65,22 @@ public class JwtProvider {
                 .compact();
     }
 
-//    public Duration remainingTtl(String token) {
-//        Claims claims = parse(token);
-//        Instant now = Instant.now();
-//        Instant exp = claims.getExpiration().toInstant();
-//
-//        if (!exp.isAfter(now)) {
-//            return Duration.ZERO;
-//        }
-//        return Duration.between(now, exp);
-//    }
+    /** 토큰 남은 유효시간 (블랙리스트 TTL 용도) */
+    public Duration remainingTtl(String token) {
+        Claims claims = parse(token);
+        Instant now = Instant.now();
+        Instant exp = claims.getExpiration().toInstant();
+
+        if (!exp.isAfter(now)) {
+            return Duration.ZERO;
+        }
+        return Duration.between(now, exp);
+    }
 
 
     /** 토큰 파싱(서명 검증 + 만료 검증 포함) */
     public Claims parse(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
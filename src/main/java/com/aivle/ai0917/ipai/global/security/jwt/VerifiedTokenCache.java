@@ -0,0 +1,79 @@
+package com.aivle.ai0917.ipai.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import com.aivle.ai0917.ipai.global.security.token.TokenHashes;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 서명 검증이 끝난 Access Token 캐시
+ * - 같은 토큰으로 반복 요청하면 HMAC 서명 검증과 JSON 클레임 파싱을 건너뛴다.
+ * - 키는 토큰 원문이 아니라 SHA-256 해시 (메모리에 토큰 원문을 쌓아두지 않음, 블랙리스트와 같은 TokenHashes 값)
+ * - 값에 토큰 만료 시각을 같이 저장해서, 캐시에 남아 있어도 만료된 토큰은 통과시키지 않는다.
+ * - 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /**
+     * 필터에서 인증 정보를 만드는 데 필요한 값만 보관
+     */
+    public record VerifiedToken(Long userId, String authority, long expiresAtMillis) {}
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            JwtProvider jwtProvider,
+            @Value("${jwt.verified-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.verified-cache.ttl:10m}") Duration ttl) {
+        this.jwtProvider = jwtProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 검증된 토큰 정보 (캐시에 없으면 서명/만료 검증 후 저장)
+     * - 위조/만료 토큰이면 JwtException 계열 예외
+     */
+    public VerifiedToken verify(String token) {
+        return verify(token, TokenHashes.sha256(token));
+    }
+
+    /**
+     * tokenHash: 호출한 쪽에서 이미 계산한 TokenHashes.sha256(token) (블랙리스트 조회와 같은 값)
+     */
+    public VerifiedToken verify(String token, String tokenHash) {
+        VerifiedToken cached = cache.getIfPresent(tokenHash);
+        long now = System.currentTimeMillis();
+
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return cached;
+            }
+            cache.invalidate(tokenHash);
+            throw new ExpiredJwtException(null, null, "캐시된 토큰이 만료되었습니다.");
+        }
+
+        Claims claims = jwtProvider.parse(token);
+        VerifiedToken verified = new VerifiedToken(
+                Long.valueOf(claims.getSubject()),
+                toAuthority(String.valueOf(claims.get("role"))),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE);
+
+        cache.put(tokenHash, verified);
+        return verified;
+    }
+
+    // Spring Security 관례: ROLE_ 접두어 통일 (토큰에 "Author" -> "ROLE_Author")
+    private String toAuthority(String roleClaim) {
+        return roleClaim.startsWith("ROLE_") ? roleClaim : "ROLE_" + roleClaim;
+    }
+}
@@ -1,25 +1,65 @@
 package com.aivle.ai0917.ipai.global.security.token;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
 import java.time.Duration;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * 로그아웃/탈퇴로 폐기된 Access Token 목록
+ * - 원본은 Redis (jwt:blacklist:{sha256} 키, TTL = 토큰 남은 유효시간)
+ * - 인스턴스마다 폐기된 토큰 해시 -> 만료 시각을 메모리에 같이 들고 있어서,
+ *   요청마다 Redis를 조회하지 않고 로컬에서 바로 판단한다. (대부분의 요청은 "폐기 아님")
+ * - 다른 인스턴스의 폐기는 Redis pub/sub으로 받아서 반영하고,
+ *   재시작/구독 끊김으로 놓친 메시지는 주기적인 전체 재동기화(SCAN + 파이프라인 PTTL)로 메운다.
+ * - 로컬 목록을 아직 한 번도 못 채웠으면(시작 시 Redis 장애 등) 기존처럼 Redis를 직접 조회한다.
+ */
 @Service
-public class RedisTokenBlacklistService implements TokenBlacklistService {
+public class RedisTokenBlacklistService implements TokenBlacklistService, MessageListener {
 
     private static final Logger log = LoggerFactory.getLogger(RedisTokenBlacklistService.class);
     private static final String KEY_PREFIX = "jwt:blacklist:";
+    private static final int SCAN_BATCH = 500;
 
     private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String topic;
 
-    public RedisTokenBlacklistService(StringRedisTemplate redisTemplate) {
+    // 토큰 해시 -> 만료 시각(epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile boolean synced;
+
+    public RedisTokenBlacklistService(StringRedisTemplate redisTemplate,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      @Value("${jwt.blacklist.topic:ipai:jwt-blacklist}") String topic) {
         this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = topic;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        // 구독을 먼저 걸고 전체 목록을 읽어야 그 사이 폐기된 토큰을 놓치지 않음
+        listenerContainer.addMessageListener(this, new ChannelTopic(topic));
+        resync();
     }
 
     @Override
@@ -27,21 +67,37 @@ public class RedisTokenBlacklistService implements TokenBlacklistService {
         if (token == null || token.isBlank()) return;
         if (ttl == null || ttl.isNegative() || ttl.isZero()) return;
 
+        String hash = TokenHashes.sha256(token);
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+
+        // 이 인스턴스에는 즉시 반영 (Redis 장애여도 최소한 여기서는 막힘)
+        revoked.merge(hash, expiresAt, Math::max);
+
         try {
-            String key = redisKey(token);
-            redisTemplate.opsForValue().set(key, "1", ttl);
+            redisTemplate.opsForValue().set(KEY_PREFIX + hash, "1", ttl);
+            redisTemplate.convertAndSend(topic, hash + ":" + expiresAt);
         } catch (Exception e) {
             log.error("Failed to write token blacklist to Redis", e);
         }
     }
 
     @Override
-    public boolean isBlacklisted(String token) {
-        if (token == null || token.isBlank()) return false;
+    public boolean isBlacklistedHash(String hash) {
+        Long expiresAt = revoked.get(hash);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                return true;
+            }
+            revoked.remove(hash, expiresAt);
+        }
 
+        if (synced) {
+            return false;
+        }
+
+        // 로컬 목록을 아직 못 채운 상태 -> Redis 직접 조회
         try {
-            String key = redisKey(token);
-            Boolean hasKey = redisTemplate.hasKey(key);
+            Boolean hasKey = redisTemplate.hasKey(KEY_PREFIX + hash);
             return Boolean.TRUE.equals(hasKey);
         } catch (Exception e) {
             log.error("Failed to read token blacklist from Redis", e);
@@ -49,17 +105,88 @@ public class RedisTokenBlacklistService implements TokenBlacklistService {
         }
     }
 
-    private String redisKey(String token) {
-        return KEY_PREFIX + sha256(token);
+    /**
+     * 다른 인스턴스에서 폐기한 토큰 반영 (메시지: "{hash}:{만료 epoch ms}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf(':');
+        if (sep <= 0) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+            return;
+        }
+        try {
+            revoked.merge(body.substring(0, sep), Long.parseLong(body.substring(sep + 1)), Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 토큰 폐기 메시지: {}", body);
+        }
     }
 
-    private String sha256(String value) {
+    /**
+     * Redis 전체 목록으로 로컬 목록 보정 + 만료된 항목 정리
+     * - pub/sub은 구독이 끊긴 동안의 메시지를 다시 주지 않으므로 주기적으로 맞춘다.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.resync-interval-ms:60000}",
+            fixedDelayString = "${jwt.blacklist.resync-interval-ms:60000}")
+    public void resync() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            int loaded = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH).build();
+            List<String> batch = new ArrayList<>(SCAN_BATCH);
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == SCAN_BATCH) {
+                        loaded += loadExpiries(batch, now);
+                        batch.clear();
+                    }
+                }
+            }
+            loaded += loadExpiries(batch, now);
+
+            if (!synced) {
+                log.info("토큰 블랙리스트 로컬 동기화 완료: {}건", loaded);
+            }
+            synced = true;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to hash token", e);
+            // 이미 한 번 동기화됐으면 로컬 목록 + pub/sub으로 계속 동작
+            log.warn("토큰 블랙리스트 재동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 키 묶음의 남은 TTL을 파이프라인 한 번으로 읽어서 로컬 목록에 반영 (키마다 왕복하지 않음)
+     */
+    private int loadExpiries(List<String> keys, long now) {
+        if (keys.isEmpty()) {
+            return 0;
         }
+
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (!(ttls.get(i) instanceof Long ttlMillis) || ttlMillis <= 0) {
+                continue; // 그 사이 만료됨 (TTL 없는 키는 만들지 않음)
+            }
+            revoked.merge(keys.get(i).substring(KEY_PREFIX.length()), now + ttlMillis, Math::max);
+            loaded++;
+        }
+        return loaded;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        listenerContainer.removeMessageListener(this);
     }
-}
\ No newline at end of file
+}
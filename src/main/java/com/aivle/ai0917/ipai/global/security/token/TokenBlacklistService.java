@@ -5,5 +5,11 @@ import java.time.Duration;
 public interface TokenBlacklistService {
     void blacklist(String token, Duration ttl);
 
-    boolean isBlacklisted(String token);
-}
\ No newline at end of file
+    default boolean isBlacklisted(String token) {
+        if (token == null || token.isBlank()) return false;
+        return isBlacklistedHash(TokenHashes.sha256(token));
+    }
+
+    // 이미 계산한 토큰 해시로 조회 (TokenHashes.sha256)
+    boolean isBlacklistedHash(String tokenHash);
+}
@@ -0,0 +1,26 @@
+package com.aivle.ai0917.ipai.global.security.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 쓰는 SHA-256 해시 (Base64 URL, 패딩 없음)
+ * - 블랙리스트(Redis 키/로컬 목록)와 검증 캐시 키가 같은 값을 쓰므로, 필터에서 요청당 한 번만 계산해서 넘긴다.
+ */
+public final class TokenHashes {
+
+    private TokenHashes() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.aivle.ai0917.ipai.global.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공통 SSE 알림 허브 (관리자/작가/매니저 알림 공용)
+ * - 호출 스레드(트랜잭션, 스케줄러)는 구독자 대기열에 넣기만 하고 바로 반환한다.
+ * - 실제 emitter.send는 전용 fan-out 스레드 풀에서 구독자 단위로 순서대로 수행 -> 느린 클라이언트가 다른 구독자나 호출 스레드를 막지 않음
+ * - 주기적으로 heartbeat를 보내 끊어진 연결을 정리한다.
+ * - send/broadcast는 SseRelay(Redis)로 다른 인스턴스에도 전달되고, 각 인스턴스는 자기 구독자에게만 보낸다.
+ * - 같은 사용자(key)가 여러 탭에서 구독할 수 있고, 상한을 넘으면 가장 오래된 연결에 evicted 이벤트를 보내고 바로 닫는다.
+ * - 메트릭: sse.connections, sse.queue.depth, sse.fanout.queue.size, sse.send.latency, sse.events.dropped
+ */
+@Slf4j
+@Component
+public class SseHub {
+
+    private final SseProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<SseRelay> relay; // 단일 인스턴스 구성(sse.relay.enabled=false)이면 없음
+    private final ThreadPoolExecutor fanoutExecutor;
+
+    // channel -> (key -> 연결 목록, 오래된 순)
+    private final Map<String, Map<String, List<SseSubscriber>>> channels = new ConcurrentHashMap<>();
+
+    private final Timer sendTimer;
+    private final Counter overflowDropped;
+    private final Counter rejectedDrains;
+
+    public SseHub(SseProperties properties, MeterRegistry meterRegistry, ObjectProvider<SseRelay> relay) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.relay = relay;
+
+        int threads = properties.getFanout().getThreads();
+        this.fanoutExecutor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getFanout().getQueueCapacity()),
+                new CustomizableThreadFactory("sse-fanout-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.sendTimer = Timer.builder("sse.send.latency")
+                .description("SseEmitter.send 소요 시간")
+                .register(meterRegistry);
+        this.overflowDropped = Counter.builder("sse.events.dropped")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.rejectedDrains = Counter.builder("sse.events.dropped")
+                .tag("reason", "fanout-rejected")
+                .register(meterRegistry);
+
+        Gauge.builder("sse.queue.depth", this, SseHub::totalQueuedEvents)
+                .description("구독자 대기열에 쌓인 이벤트 수 합계")
+                .register(meterRegistry);
+        Gauge.builder("sse.fanout.queue.size", fanoutExecutor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 (같은 key의 기존 연결은 유지, 상한 초과분만 오래된 순으로 정리)
+     */
+    public SseEmitter subscribe(String channel, String key, String connectedMessage) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        SseSubscriber subscriber = new SseSubscriber(channel, key, emitter, properties.getSubscriberQueueCapacity());
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        List<SseSubscriber> evicted = new ArrayList<>();
+        channel(channel).compute(key, (k, list) -> {
+            List<SseSubscriber> subs = (list != null) ? list : new CopyOnWriteArrayList<>();
+            subs.add(subscriber);
+            while (subs.size() > properties.getMaxConnectionsPerKey()) {
+                evicted.add(subs.remove(0));
+            }
+            return subs;
+        });
+        evicted.forEach(this::evict);
+
+        // 연결 즉시 확인 이벤트 (503 방지 및 연결 확인용)
+        enqueue(subscriber, SseMessage.event("connected", connectedMessage));
+        return emitter;
+    }
+
+    /**
+     * 특정 사용자의 모든 연결(탭)에 전송 (다른 인스턴스에 연결된 탭 포함)
+     */
+    public void send(String channel, String key, String eventName, Object data) {
+        sendLocal(channel, key, eventName, data);
+        relay.ifAvailable(r -> r.publish(channel, key, eventName, data));
+    }
+
+    /**
+     * 채널의 모든 구독자에게 전송 (다른 인스턴스 구독자 포함)
+     */
+    public void broadcast(String channel, String eventName, Object data) {
+        broadcastLocal(channel, eventName, data);
+        relay.ifAvailable(r -> r.publish(channel, null, eventName, data));
+    }
+
+    // 이 인스턴스에 연결된 탭에만 전송 (relay 수신 시 사용)
+    void sendLocal(String channel, String key, String eventName, Object data) {
+        List<SseSubscriber> subs = channel(channel).get(key);
+        if (subs != null) {
+            SseMessage message = SseMessage.event(eventName, data);
+            subs.forEach(subscriber -> enqueue(subscriber, message));
+        }
+    }
+
+    void broadcastLocal(String channel, String eventName, Object data) {
+        SseMessage message = SseMessage.event(eventName, data);
+        channel(channel).values().forEach(subs -> subs.forEach(subscriber -> enqueue(subscriber, message)));
+    }
+
+    // 채널의 전체 연결 수 (이 인스턴스, 탭 단위)
+    public int connectionCount(String channel) {
+        return countConnections(channel(channel));
+    }
+
+    /**
+     * heartbeat 전송 (끊긴 연결은 전송 실패 시 정리됨)
+     * - fan-out 대기열이 가득 차서 밀린 전송도 여기서 다시 시작됨
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        SseMessage ping = SseMessage.heartbeat();
+        channels.values().forEach(keys -> keys.values().forEach(subs -> subs.forEach(subscriber -> enqueue(subscriber, ping))));
+    }
+
+    // --- 내부 처리 ---
+
+    private Map<String, List<SseSubscriber>> channel(String channel) {
+        return channels.computeIfAbsent(channel, name -> {
+            Map<String, List<SseSubscriber>> keys = new ConcurrentHashMap<>();
+            Gauge.builder("sse.connections", keys, SseHub::countConnections)
+                    .tag("channel", name)
+                    .register(meterRegistry);
+            Gauge.builder("sse.subscribers", keys, Map::size)
+                    .tag("channel", name)
+                    .description("연결된 사용자 수")
+                    .register(meterRegistry);
+            return keys;
+        });
+    }
+
+    private static int countConnections(Map<String, List<SseSubscriber>> keys) {
+        return keys.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * 상한 초과로 밀려난 연결 정리
+     * - 목록에서는 즉시 빠지고(새 이벤트 없음), evicted 이벤트 전송 후 emitter를 완료해서 async 요청을 바로 반납
+     * - 클라이언트는 evicted 이벤트를 받으면 재연결하지 않아야 함 (탭끼리 서로 밀어내는 것 방지)
+     */
+    private void evict(SseSubscriber subscriber) {
+        removeFromChannel(subscriber);
+        log.debug("SSE 연결 상한 초과로 이전 연결 종료: channel={}, key={}", subscriber.channel(), subscriber.key());
+
+        SseMessage evicted = SseMessage.terminal("evicted", "다른 탭에서 새로 연결되어 이 연결은 종료됩니다.");
+        if (!subscriber.offer(evicted)) {
+            subscriber.poll();
+            subscriber.offer(evicted);
+        }
+        if (!scheduleDrain(subscriber)) {
+            close(subscriber);
+        }
+    }
+
+    private void enqueue(SseSubscriber subscriber, SseMessage message) {
+        if (subscriber.isClosed()) {
+            return;
+        }
+
+        if (!subscriber.offer(message)) {
+            overflowDropped.increment();
+            switch (properties.getOverflowPolicy()) {
+                case DROP_OLDEST -> {
+                    subscriber.poll();
+                    subscriber.offer(message);
+                }
+                case DROP_NEWEST -> {
+                    // 새 이벤트를 버림
+                }
+                case DISCONNECT -> {
+                    log.warn("SSE 대기열 초과로 연결 종료: channel={}, key={}", subscriber.channel(), subscriber.key());
+                    close(subscriber);
+                    return;
+                }
+            }
+        }
+        scheduleDrain(subscriber);
+    }
+
+    // 전송 작업을 못 넣었으면 false
+    private boolean scheduleDrain(SseSubscriber subscriber) {
+        if (!subscriber.tryStartDrain()) {
+            return true; // 이미 다른 스레드가 전송 중 (그 스레드가 대기열을 비움)
+        }
+        try {
+            fanoutExecutor.execute(() -> drain(subscriber));
+            return true;
+        } catch (RejectedExecutionException e) {
+            // 이벤트는 구독자 대기열에 남아 있으므로 다음 heartbeat 때 다시 시도
+            subscriber.endDrain();
+            rejectedDrains.increment();
+            return false;
+        }
+    }
+
+    private void drain(SseSubscriber subscriber) {
+        try {
+            SseMessage message;
+            while (!subscriber.isClosed() && (message = subscriber.poll()) != null) {
+                long start = System.nanoTime();
+                try {
+                    subscriber.emitter().send(message.toEvent());
+                    if (message.terminal()) {
+                        close(subscriber);
+                        return;
+                    }
+                } catch (Exception e) {
+                    // 클라이언트 연결 끊김
+                    log.debug("SSE 전송 실패, 연결 정리: channel={}, key={}, error={}",
+                            subscriber.channel(), subscriber.key(), e.getMessage());
+                    close(subscriber);
+                    return;
+                } finally {
+                    sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+        } finally {
+            subscriber.endDrain();
+        }
+
+        // poll이 비었다고 본 직후에 들어온 이벤트 처리
+        if (!subscriber.isClosed() && subscriber.queueSize() > 0) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void close(SseSubscriber subscriber) {
+        unregister(subscriber);
+        try {
+            subscriber.emitter().complete();
+        } catch (Exception ignored) {
+            // 이미 종료된 emitter
+        }
+    }
+
+    private void unregister(SseSubscriber subscriber) {
+        if (subscriber.markClosed()) {
+            removeFromChannel(subscriber);
+        }
+    }
+
+    // 해당 연결만 제거 (같은 key의 다른 탭은 유지), 마지막 연결이면 key도 제거
+    private void removeFromChannel(SseSubscriber subscriber) {
+        channel(subscriber.channel()).computeIfPresent(subscriber.key(), (k, subs) -> {
+            subs.remove(subscriber);
+            return subs.isEmpty() ? null : subs;
+        });
+    }
+
+    private double totalQueuedEvents() {
+        return channels.values().stream()
+                .flatMap(keys -> keys.values().stream())
+                .flatMap(List::stream)
+                .mapToInt(SseSubscriber::queueSize)
+                .sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 종료 시 연결을 닫아서 클라이언트가 다른 인스턴스로 재연결하도록
+        channels.values().forEach(keys -> keys.values().forEach(subs -> subs.forEach(this::close)));
+        fanoutExecutor.shutdown();
+    }
+}
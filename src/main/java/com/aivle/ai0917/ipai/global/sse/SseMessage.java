@@ -0,0 +1,29 @@
+package com.aivle.ai0917.ipai.global.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 전송 대기 이벤트
+ * - SseEventBuilder는 build 시 내부 상태가 바뀌어 여러 구독자가 공유할 수 없으므로, 전송 직전에 구독자별로 만든다.
+ */
+record SseMessage(String name, Object data, boolean comment, boolean terminal) {
+
+    static SseMessage event(String name, Object data) {
+        return new SseMessage(name, data, false, false);
+    }
+
+    static SseMessage heartbeat() {
+        return new SseMessage("heartbeat", null, true, false);
+    }
+
+    // 전송 후 연결을 닫는 마지막 이벤트
+    static SseMessage terminal(String name, Object data) {
+        return new SseMessage(name, data, false, true);
+    }
+
+    SseEmitter.SseEventBuilder toEvent() {
+        return comment
+                ? SseEmitter.event().comment(name)
+                : SseEmitter.event().name(name).data(data);
+    }
+}
@@ -0,0 +1,49 @@
+package com.aivle.ai0917.ipai.global.sse;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * application.yaml의 sse.* 설정 바인딩
+ * - heartbeat 주기(sse.heartbeat-interval-ms)는 SseHub의 @Scheduled에서 직접 읽음
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "sse")
+public class SseProperties {
+
+    // SseEmitter 타임아웃 (만료되면 클라이언트가 재연결)
+    private Duration timeout = Duration.ofHours(1);
+
+    // 사용자(key)당 최대 동시 연결 수 (탭 여러 개), 초과 시 가장 오래된 연결을 닫음
+    private int maxConnectionsPerKey = 5;
+
+    // 구독자별 전송 대기열 크기
+    private int subscriberQueueCapacity = 100;
+
+    // 구독자 대기열이 가득 찼을 때 처리 방식
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+    private Fanout fanout = new Fanout();
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,  // 가장 오래된 이벤트를 버리고 새 이벤트 추가
+        DROP_NEWEST,  // 새 이벤트를 버림
+        DISCONNECT    // 느린 구독자 연결을 끊음 (클라이언트 재연결 후 목록 API로 복구)
+    }
+
+    @Getter
+    @Setter
+    public static class Fanout {
+        // 실제 emitter.send를 수행하는 전용 스레드 수
+        private int threads = 8;
+
+        // 전송 작업 대기열 크기 (가득 차면 다음 heartbeat 때 다시 시도)
+        private int queueCapacity = 1000;
+    }
+}
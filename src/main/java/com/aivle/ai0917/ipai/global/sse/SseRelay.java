@@ -0,0 +1,124 @@
+package com.aivle.ai0917.ipai.global.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스 간 SSE 알림 중계 (Redis pub/sub)
+ * - SseHub가 로컬 구독자에게 보낸 이벤트를 Redis 토픽으로도 발행한다.
+ * - 다른 인스턴스는 수신한 이벤트를 자기 인스턴스에 연결된 구독자에게만 전달한다. (sticky session 불필요)
+ * - 자기가 발행한 메시지는 이미 로컬로 전달했으므로 무시한다.
+ * - 발행은 별도 스레드에서 수행해서 Redis 지연이 알림 발송 쪽(트랜잭션 등)을 막지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "sse.relay.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class SseRelay implements MessageListener {
+
+    record RelayMessage(String origin, String channel, String key, String event, JsonNode data) {}
+
+    private final SseHub sseHub;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ThreadPoolExecutor publisher = new ThreadPoolExecutor(
+            1, 1, 0, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1000),
+            new CustomizableThreadFactory("sse-relay-"));
+
+    public SseRelay(SseHub sseHub,
+                    StringRedisTemplate redisTemplate,
+                    RedisMessageListenerContainer listenerContainer,
+                    ObjectMapper objectMapper,
+                    @Value("${sse.relay.topic:ipai:sse}") String topic) {
+        this.sseHub = sseHub;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(topic));
+        log.info("SSE relay subscribed: topic={}, instance={}", topic, instanceId);
+    }
+
+    /**
+     * 다른 인스턴스로 이벤트 발행 (key == null 이면 채널 전체 브로드캐스트)
+     */
+    void publish(String channel, String key, String event, Object data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(
+                    new RelayMessage(instanceId, channel, key, event, objectMapper.valueToTree(data)));
+        } catch (Exception e) {
+            log.error("SSE relay 메시지 직렬화 실패: channel={}, event={}", channel, event, e);
+            return;
+        }
+
+        try {
+            publisher.execute(() -> {
+                try {
+                    redisTemplate.convertAndSend(topic, payload);
+                } catch (Exception e) {
+                    log.warn("SSE relay 발행 실패 (다른 인스턴스 미전달): {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("SSE relay 발행 대기열 초과, 이벤트 누락: channel={}, event={}", channel, event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RelayMessage relay = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), RelayMessage.class);
+
+            if (instanceId.equals(relay.origin())) {
+                return; // 자기 인스턴스에서 이미 전달함
+            }
+
+            if (relay.key() == null) {
+                sseHub.broadcastLocal(relay.channel(), relay.event(), relay.data());
+            } else {
+                sseHub.sendLocal(relay.channel(), relay.key(), relay.event(), relay.data());
+            }
+        } catch (Exception e) {
+            log.error("SSE relay 메시지 처리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        listenerContainer.removeMessageListener(this);
+        publisher.shutdown();
+    }
+}
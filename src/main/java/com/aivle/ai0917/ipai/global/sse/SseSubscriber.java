@@ -0,0 +1,73 @@
+package com.aivle.ai0917.ipai.global.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 1개 (emitter + 전용 전송 대기열)
+ * - 한 구독자에 대한 전송은 항상 한 스레드만 수행 (draining 플래그) -> 이벤트 순서 보장
+ */
+final class SseSubscriber {
+
+    private final String channel;
+    private final String key;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseMessage> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    SseSubscriber(String channel, String key, SseEmitter emitter, int queueCapacity) {
+        this.channel = channel;
+        this.key = key;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    String channel() {
+        return channel;
+    }
+
+    String key() {
+        return key;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean offer(SseMessage message) {
+        return queue.offer(message);
+    }
+
+    SseMessage poll() {
+        return queue.poll();
+    }
+
+    int queueSize() {
+        return queue.size();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    // 처음 닫는 호출만 true
+    boolean markClosed() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            return true;
+        }
+        return false;
+    }
+}
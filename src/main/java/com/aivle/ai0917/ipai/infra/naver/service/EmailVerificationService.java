@@ -1,64 +1,73 @@
 package com.aivle.ai0917.ipai.infra.naver.service;
 
 
+import com.aivle.ai0917.ipai.global.mail.MailDispatcher;
+import com.aivle.ai0917.ipai.global.mail.MailRateLimiter;
+import com.aivle.ai0917.ipai.infra.naver.store.EmailCodeStore;
+import com.aivle.ai0917.ipai.infra.naver.store.EmailCodeStore.EmailCode;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class EmailVerificationService {
 
     @Value("${spring.mail.username}")
     private String from;
-    private final JavaMailSender mailSender;
+    private final MailDispatcher mailDispatcher;
     private final SecureRandom random = new SecureRandom();
 
-    // ✅ 로컬 개발용: 메모리 저장소
-    // ⚠️ 서버 재시작하면 인증 정보 사라짐
-    // ✅ AWS 운영: Redis 권장 (TTL 관리 쉬움)
-    private final Map<String, CodeEntry> store = new ConcurrentHashMap<>();
+    // ✅ 운영: Redis (TTL로 만료), 로컬 개발: email-verification.store=memory
+    private final EmailCodeStore store;
 
-    public EmailVerificationService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailVerificationService(MailDispatcher mailDispatcher, EmailCodeStore store) {
+        this.mailDispatcher = mailDispatcher;
+        this.store = store;
     }
 
     public void sendCode(String email) {
-        String code = String.format("%06d", random.nextInt(1_000_000));
-        Instant expiresAt = Instant.now().plusSeconds(5 * 60); // 5분 유효
+        // 수신자별 발송 한도 먼저 확인 (거절 시 이전에 보낸 코드가 그대로 유효하도록 저장 전에)
+        MailRateLimiter.Permit permit = mailDispatcher.acquire(email);
 
-        store.put(email, new CodeEntry(code, expiresAt, false));
+        try {
+            String code = String.format("%06d", random.nextInt(1_000_000));
+            Instant expiresAt = Instant.now().plusSeconds(5 * 60); // 5분 유효
 
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setFrom(from);
-        msg.setTo(email);
-        msg.setSubject("[IPAI] 이메일 인증 코드");
-        msg.setText("인증 코드: " + code + "\n(5분 내 입력)");
-        mailSender.send(msg);
+            store.save(email, new EmailCode(code, expiresAt, false));
+
+            SimpleMailMessage msg = new SimpleMailMessage();
+            msg.setFrom(from);
+            msg.setTo(email);
+            msg.setSubject("[IPAI] 이메일 인증 코드");
+            msg.setText("인증 코드: " + code + "\n(5분 내 입력)");
+            // SMTP 발송은 백그라운드에서 (코드 저장까지만 하고 바로 응답)
+            mailDispatcher.submit(msg);
+        } catch (RuntimeException e) {
+            // 저장/등록에 실패하면 발송되지 않으므로 차감한 한도를 되돌림
+            mailDispatcher.release(permit);
+            throw e;
+        }
     }
 
     public boolean verifyCode(String email, String code) {
-        CodeEntry entry = store.get(email);
+        EmailCode entry = store.find(email).orElse(null);
         if (entry == null) return false;
-        if (Instant.now().isAfter(entry.expiresAt)) return false;
-        if (!entry.code.equals(code)) return false;
+        if (!entry.code().equals(code)) return false;
 
-        store.put(email, new CodeEntry(entry.code, entry.expiresAt, true));
+        // 만료 시각은 그대로 유지
+        store.save(email, new EmailCode(entry.code(), entry.expiresAt(), true));
         return true;
     }
 
     public boolean isVerified(String email) {
-        CodeEntry entry = store.get(email);
-        return entry != null && entry.verified && Instant.now().isBefore(entry.expiresAt);
+        return store.find(email)
+                .map(EmailCode::verified)
+                .orElse(false);
     }
 
-    private record CodeEntry(String code, Instant expiresAt, boolean verified) {}
-
     //재사용 방지
     public void invalidate(String email) {
         store.remove(email);
@@ -0,0 +1,34 @@
+package com.aivle.ai0917.ipai.infra.naver.store;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 이메일 인증 코드 저장소
+ * - email-verification.store=redis(기본): Redis TTL로 만료, 인스턴스 간 공유
+ * - email-verification.store=memory: 로컬 개발용, 주기적으로 만료 항목 정리 + 최대 건수 제한
+ */
+public interface EmailCodeStore {
+
+    /**
+     * 인증 코드 상태 (expiresAt 이후에는 조회되지 않음)
+     */
+    record EmailCode(String code, Instant expiresAt, boolean verified) {
+
+        public boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * 저장 (같은 이메일이면 덮어씀), 저장 공간이 가득 차면 MailThrottledException (429)
+     */
+    void save(String email, EmailCode code);
+
+    /**
+     * 만료되지 않은 코드만 반환
+     */
+    Optional<EmailCode> find(String email);
+
+    void remove(String email);
+}
@@ -0,0 +1,83 @@
+package com.aivle.ai0917.ipai.infra.naver.store;
+
+import com.aivle.ai0917.ipai.global.mail.MailThrottledException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 인증 코드 저장소 (로컬 개발 / 단일 인스턴스용)
+ * - 서버 재시작 시 사라지고 인스턴스 간 공유되지 않음
+ * - 만료 항목은 주기적으로 정리하고, 최대 건수를 넘으면 새 이메일의 코드 발급을 거절한다.
+ *   (가입 요청 폭주/악용 시에도 메모리가 일정 수준을 넘지 않도록, 진행 중인 인증은 밀어내지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+        name = "email-verification.store",
+        havingValue = "memory"
+)
+public class InMemoryEmailCodeStore implements EmailCodeStore {
+
+    private final Map<String, EmailCode> store = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    // 가득 찼을 때 재요청 안내 시각 = 다음 만료 정리 주기
+    private final long retryAfterSeconds;
+
+    public InMemoryEmailCodeStore(
+            @Value("${email-verification.memory.max-entries:10000}") int maxEntries,
+            @Value("${email-verification.memory.sweep-interval-ms:60000}") long sweepIntervalMs) {
+        this.maxEntries = maxEntries;
+        this.retryAfterSeconds = Math.max(1, sweepIntervalMs / 1000);
+    }
+
+    @Override
+    public void save(String email, EmailCode code) {
+        if (store.size() >= maxEntries && !store.containsKey(email)) {
+            sweepExpired();
+            if (store.size() >= maxEntries) {
+                // 발송 한도 초과와 같은 429로 응답 (EmailVerificationService가 차감한 발송 한도도 되돌림)
+                throw new MailThrottledException("인증 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.",
+                        retryAfterSeconds);
+            }
+        }
+        store.put(email, code);
+    }
+
+    @Override
+    public Optional<EmailCode> find(String email) {
+        EmailCode code = store.get(email);
+        if (code == null) {
+            return Optional.empty();
+        }
+        if (code.isExpired(Instant.now())) {
+            store.remove(email, code);
+            return Optional.empty();
+        }
+        return Optional.of(code);
+    }
+
+    @Override
+    public void remove(String email) {
+        store.remove(email);
+    }
+
+    @Scheduled(fixedDelayString = "${email-verification.memory.sweep-interval-ms:60000}")
+    public void sweepExpired() {
+        Instant now = Instant.now();
+        int before = store.size();
+        store.values().removeIf(code -> code.isExpired(now));
+
+        int removed = before - store.size();
+        if (removed > 0) {
+            log.debug("만료된 이메일 인증 코드 정리: {}건 (남은 {}건)", removed, store.size());
+        }
+    }
+}
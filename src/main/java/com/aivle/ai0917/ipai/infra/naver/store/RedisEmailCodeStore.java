@@ -0,0 +1,65 @@
+package com.aivle.ai0917.ipai.infra.naver.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Redis 인증 코드 저장소
+ * - 키: email:code:{email}, 값: "{code}:{verified}:{만료 epoch ms}"
+ * - 키 TTL = 코드 남은 유효시간 -> 만료된 코드는 Redis가 지우므로 따로 정리할 필요 없음
+ */
+@Component
+@ConditionalOnProperty(
+        name = "email-verification.store",
+        havingValue = "redis",
+        matchIfMissing = true
+)
+public class RedisEmailCodeStore implements EmailCodeStore {
+
+    private static final String KEY_PREFIX = "email:code:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisEmailCodeStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void save(String email, EmailCode code) {
+        Duration ttl = Duration.between(Instant.now(), code.expiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            remove(email);
+            return;
+        }
+
+        String value = code.code() + ":" + code.verified() + ":" + code.expiresAt().toEpochMilli();
+        redisTemplate.opsForValue().set(KEY_PREFIX + email, value, ttl);
+    }
+
+    @Override
+    public Optional<EmailCode> find(String email) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + email);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.split(":", 3);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+
+        EmailCode code = new EmailCode(parts[0], Instant.ofEpochMilli(Long.parseLong(parts[2])), Boolean.parseBoolean(parts[1]));
+        // TTL 만료 직전 조회 대비
+        return code.isExpired(Instant.now()) ? Optional.empty() : Optional.of(code);
+    }
+
+    @Override
+    public void remove(String email) {
+        redisTemplate.delete(KEY_PREFIX + email);
+    }
+}
@@ -0,0 +1,22 @@
+-- Hibernate(ddl-auto: update)로 표현할 수 없는 스키마 보완
+-- - 매 기동 시 엔티티 테이블 생성 후 실행됨 (spring.sql.init.mode=always, spring.jpa.defer-datasource-initialization=true)
+-- - 반복 실행해도 안전하도록 작성할 것
+
+-- 원문 분석: 원문당 진행 중 작업은 1개
+-- (인덱스 도입 전 중복으로 들어간 진행 중 작업은 가장 오래된 1건만 남기고 실패 처리)
+UPDATE episode_analysis_jobs j
+SET status = 'FAILED',
+    error_message = '같은 원문에 진행 중인 작업이 있어 취소되었습니다.',
+    finished_at = now(),
+    updated_at = now()
+WHERE j.status IN ('PENDING', 'EXTRACTING', 'CHECKING')
+  AND EXISTS (
+      SELECT 1 FROM episode_analysis_jobs o
+      WHERE o.episode_id = j.episode_id
+        AND o.status IN ('PENDING', 'EXTRACTING', 'CHECKING')
+        AND o.id < j.id
+  );
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_analysis_jobs_active_episode
+    ON episode_analysis_jobs (episode_id)
+    WHERE status IN ('PENDING', 'EXTRACTING', 'CHECKING');
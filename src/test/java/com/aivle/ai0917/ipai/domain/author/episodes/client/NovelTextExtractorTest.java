@@ -0,0 +1,88 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NovelTextExtractorTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private String extract(String body) throws IOException {
+        StringWriter out = new StringWriter();
+        NovelTextExtractor.extract(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out, jsonFactory);
+        return out.toString();
+    }
+
+    @Test
+    void txtField() throws IOException {
+        assertThat(extract("{\"txt\": \"1화 본문\"}")).isEqualTo("1화 본문");
+    }
+
+    @Test
+    void textFieldAfterOtherFields() throws IOException {
+        assertThat(extract("{\"meta\": {\"a\": [1, 2]}, \"ok\": true, \"text\": \"본문\"}")).isEqualTo("본문");
+    }
+
+    @Test
+    void simpleEscapes() throws IOException {
+        assertThat(extract("{\"txt\": \"a\\\"b\\\\c\\/d\\ne\\rf\\tg\\bh\\fi\"}"))
+                .isEqualTo("a\"b\\c/d\ne\rf\tg\bh\fi");
+    }
+
+    @Test
+    void unicodeEscapeAndSurrogatePair() throws IOException {
+        assertThat(extract("{\"txt\": \"\\uAC00\\uD83D\\uDE00!\"}")).isEqualTo("가😀!");
+    }
+
+    @Test
+    void missingTxtGivesEmptyText() throws IOException {
+        assertThat(extract("{\"path\": \"/a/b.txt\"}")).isEmpty();
+    }
+
+    @Test
+    void topLevelJsonString() throws IOException {
+        assertThat(extract("\"따옴표 본문\\n2줄\"")).isEqualTo("따옴표 본문\n2줄");
+    }
+
+    @Test
+    void plainTextBody() throws IOException {
+        assertThat(extract("그냥 평문입니다.\n둘째 줄")).isEqualTo("그냥 평문입니다.\n둘째 줄");
+    }
+
+    @Test
+    void leadingWhitespaceBeforeJson() throws IOException {
+        assertThat(extract("  \n\t{\"txt\": \"본문\"}")).isEqualTo("본문");
+    }
+
+    @Test
+    void plainTextStartingWithBraceFallsBackToRawBody() throws IOException {
+        String body = "{작가 메모} 1화 시작";
+        assertThat(extract(body)).isEqualTo(body);
+    }
+
+    @Test
+    void unterminatedSmallStringFallsBackToRawBody() throws IOException {
+        String body = "\"닫히지 않은 문자열";
+        assertThat(extract(body)).isEqualTo(body);
+    }
+
+    @Test
+    void longTextStreamsThrough() throws IOException {
+        String text = "가".repeat(NovelTextExtractor.COMMIT_THRESHOLD * 2);
+        assertThat(extract("{\"txt\": \"" + text + "\"}")).isEqualTo(text);
+    }
+
+    @Test
+    void errorAfterCommitIsPropagated() {
+        String body = "{\"txt\": \"" + "가".repeat(NovelTextExtractor.COMMIT_THRESHOLD * 2);
+        assertThatThrownBy(() -> extract(body)).isInstanceOf(IOException.class);
+    }
+}
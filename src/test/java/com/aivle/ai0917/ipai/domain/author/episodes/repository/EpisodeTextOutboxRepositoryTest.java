@@ -0,0 +1,134 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.repository;
+
+import com.aivle.ai0917.ipai.TestcontainersConfiguration;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeTextOutbox;
+import com.aivle.ai0917.ipai.domain.author.episodes.model.EpisodeTextOutbox.OutboxStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class EpisodeTextOutboxRepositoryTest {
+
+    private static final String USER_ID = "author-1";
+    private static final Long WORK_ID = 100L;
+
+    @Autowired
+    private EpisodeTextOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private EpisodeTextOutbox pending(Long episodeId, int epNum, String txt) {
+        EpisodeTextOutbox outbox = em.persistFlushFind(EpisodeTextOutbox.builder()
+                .episodeId(episodeId)
+                .userId(USER_ID)
+                .workId(WORK_ID)
+                .epNum(epNum)
+                .txt(txt)
+                .availableAt(LocalDateTime.now().minusSeconds(1))
+                .build());
+        em.clear();
+        return outbox;
+    }
+
+    private List<EpisodeTextOutbox> rowsOf(int epNum) {
+        em.clear();
+        return outboxRepository.findAll().stream()
+                .filter(o -> o.getEpNum() == epNum)
+                .toList();
+    }
+
+    private OutboxStatus statusOf(Long id) {
+        em.clear();
+        return outboxRepository.findById(id).orElseThrow().getStatus();
+    }
+
+    private Long claim() {
+        Long id = outboxRepository.claimNextPending(LocalDateTime.now());
+        em.clear();
+        return id;
+    }
+
+    @Test
+    void recreatingSameEpNumReplacesPendingTextOfDeletedEpisode() {
+        // 3화(episodeId=10) 저장 대기 중에 삭제 -> 같은 3화로 새 회차(episodeId=11) 등록
+        pending(10L, 3, "삭제된 회차 본문");
+
+        outboxRepository.deletePendingByKey(USER_ID, WORK_ID, 3);
+        EpisodeTextOutbox recreated = pending(11L, 3, "새 회차 본문");
+
+        List<EpisodeTextOutbox> rows = rowsOf(3);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getEpisodeId()).isEqualTo(11L);
+
+        assertThat(claim()).isEqualTo(recreated.getId());
+    }
+
+    @Test
+    void recreatedEpisodeWaitsWhileDeletedEpisodeTextIsInFlight() {
+        // 삭제된 회차의 텍스트가 이미 전송 중(PROCESSING)이면 새 회차 텍스트는 그 뒤에 보내야 함
+        EpisodeTextOutbox deleted = pending(10L, 3, "삭제된 회차 본문");
+        assertThat(claim()).isEqualTo(deleted.getId());
+
+        outboxRepository.deletePendingByKey(USER_ID, WORK_ID, 3);
+        EpisodeTextOutbox recreated = pending(11L, 3, "새 회차 본문");
+
+        // 전송 중인 건은 대체 대상이 아님
+        assertThat(statusOf(deleted.getId())).isEqualTo(OutboxStatus.PROCESSING);
+        assertThat(claim()).isNull();
+
+        EpisodeTextOutbox inFlight = outboxRepository.findById(deleted.getId()).orElseThrow();
+        inFlight.markSent();
+        outboxRepository.saveAndFlush(inFlight);
+        em.clear();
+
+        assertThat(claim()).isEqualTo(recreated.getId());
+    }
+
+    @Test
+    void pendingRowsOfSameKeyAreClaimedOneAtATimeInOrder() {
+        // 일괄 등록 경로는 대체 없이 INSERT만 하므로 같은 키에 대기 건이 여러 개일 수 있음
+        EpisodeTextOutbox first = pending(10L, 3, "먼저 쌓인 본문");
+        EpisodeTextOutbox second = pending(11L, 3, "나중 본문");
+        EpisodeTextOutbox otherEp = pending(12L, 4, "다른 회차");
+
+        assertThat(claim()).isEqualTo(first.getId());
+        // 같은 키는 전송 중이므로 다른 회차만 가져감
+        assertThat(claim()).isEqualTo(otherEp.getId());
+        assertThat(claim()).isNull();
+
+        EpisodeTextOutbox sent = outboxRepository.findById(first.getId()).orElseThrow();
+        sent.markSent();
+        outboxRepository.saveAndFlush(sent);
+        em.clear();
+
+        assertThat(claim()).isEqualTo(second.getId());
+    }
+
+    @Test
+    void deleteByKeyKeepsOtherWorksAndInFlightRows() {
+        EpisodeTextOutbox inFlight = pending(10L, 3, "전송 중");
+        assertThat(claim()).isEqualTo(inFlight.getId());
+        pending(11L, 3, "대기");
+        em.persistAndFlush(EpisodeTextOutbox.builder()
+                .episodeId(20L).userId(USER_ID).workId(WORK_ID + 1).epNum(3).txt("다른 작품")
+                .build());
+        em.clear();
+
+        int deleted = outboxRepository.deletePendingByKey(USER_ID, WORK_ID, 3);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(rowsOf(3)).extracting(EpisodeTextOutbox::getEpisodeId).containsExactlyInAnyOrder(10L, 20L);
+    }
+}
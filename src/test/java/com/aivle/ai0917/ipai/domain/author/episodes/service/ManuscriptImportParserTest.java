@@ -0,0 +1,121 @@
+package com.aivle.ai0917.ipai.domain.author.episodes.service;
+
+import com.aivle.ai0917.ipai.domain.author.episodes.service.ManuscriptImportParser.ImportedEpisode;
+import com.aivle.ai0917.ipai.domain.author.episodes.service.ManuscriptImportParser.InvalidImportFileException;
+import com.aivle.ai0917.ipai.domain.author.episodes.service.ManuscriptImportParser.Limits;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManuscriptImportParserTest {
+
+    private static final Charset CP949 = Charset.forName("MS949");
+    private static final Limits LIMITS = new Limits(1000, 2500, 5);
+
+    private static MultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("files", name, null, content);
+    }
+
+    private static byte[] zip(Charset nameCharset, Object... nameAndContent) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, nameCharset)) {
+            for (int i = 0; i < nameAndContent.length; i += 2) {
+                zip.putNextEntry(new ZipEntry((String) nameAndContent[i]));
+                zip.write((byte[]) nameAndContent[i + 1]);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void txtFilesAreSortedByEpisodeNumberAndDecoded() throws IOException {
+        List<ImportedEpisode> episodes = ManuscriptImportParser.parse(List.of(
+                file("2화 둘.txt", "\uFEFF본문2".getBytes(StandardCharsets.UTF_8)),
+                file("1화 하나.txt", "본문1".getBytes(CP949))), LIMITS);
+
+        assertThat(episodes).extracting(ImportedEpisode::order).containsExactly(1, 2);
+        assertThat(episodes).extracting(ImportedEpisode::subtitle).containsExactly("하나", "둘");
+        assertThat(episodes).extracting(ImportedEpisode::txt).containsExactly("본문1", "본문2");
+    }
+
+    @Test
+    void zipWithCp949FileNamesAndMixedEncodings() throws IOException {
+        byte[] zip = zip(CP949,
+                "폴더/", new byte[0],
+                "10화.txt", "열".getBytes(CP949),
+                "3화 셋.txt", "셋".getBytes(StandardCharsets.UTF_8));
+
+        List<ImportedEpisode> episodes = ManuscriptImportParser.parse(List.of(file("a.zip", zip)), LIMITS);
+
+        assertThat(episodes).extracting(ImportedEpisode::order).containsExactly(3, 10);
+        assertThat(episodes).extracting(ImportedEpisode::txt).containsExactly("셋", "열");
+    }
+
+    @Test
+    void rejectsEntryOverFileLimit() throws IOException {
+        byte[] zip = zip(StandardCharsets.UTF_8, "1.txt", new byte[1001]);
+
+        assertThatThrownBy(() -> ManuscriptImportParser.parse(List.of(file("a.zip", zip)), LIMITS))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("1.txt");
+    }
+
+    @Test
+    void rejectsWhenTotalExceedsLimit() throws IOException {
+        byte[] zip = zip(StandardCharsets.UTF_8,
+                "1.txt", new byte[900], "2.txt", new byte[900], "3.txt", new byte[900]);
+
+        assertThatThrownBy(() -> ManuscriptImportParser.parse(List.of(file("a.zip", zip)), LIMITS))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    @Test
+    void rejectsTooManyZipEntries() throws IOException {
+        byte[] zip = zip(StandardCharsets.UTF_8,
+                "a/", new byte[0], "b/", new byte[0], "c/", new byte[0],
+                "d/", new byte[0], "e/", new byte[0], "1.txt", new byte[1]);
+
+        assertThatThrownBy(() -> ManuscriptImportParser.parse(List.of(file("a.zip", zip)), LIMITS))
+                .isInstanceOf(InvalidImportFileException.class);
+    }
+
+    @Test
+    void rejectsHighlyCompressedEntryWithoutInflatingIt() throws IOException {
+        // 100MB 0바이트 -> 압축 후 약 100KB
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("bomb.txt"));
+            byte[] zeros = new byte[1 << 20];
+            for (int i = 0; i < 100; i++) {
+                zip.write(zeros);
+            }
+            zip.closeEntry();
+        }
+
+        Limits limits = new Limits(5L << 20, 100L << 20, 2000);
+        assertThatThrownBy(() -> ManuscriptImportParser.parse(List.of(file("b.zip", out.toByteArray())), limits))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("bomb.txt");
+    }
+
+    @Test
+    void rejectsUnknownEncoding() {
+        byte[] notText = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+
+        assertThatThrownBy(() -> ManuscriptImportParser.parse(List.of(file("x.txt", notText)), LIMITS))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("x.txt");
+    }
+}
@@ -0,0 +1,113 @@
+package com.aivle.ai0917.ipai.domain.manager.authors.service;
+
+import com.aivle.ai0917.ipai.TestcontainersConfiguration;
+import com.aivle.ai0917.ipai.domain.manager.authors.dto.AuthorCardResponseDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매니저 작가 목록의 작품 수 조회가 작가 수와 상관없이 같은 수의 SQL로 끝나는지 확인
+ * (작가마다 count 쿼리를 날리던 N+1 회귀 방지)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, ManagerAuthorQueryServiceImpl.class})
+class ManagerAuthorQueryServiceImplTest {
+
+    @Autowired
+    private ManagerAuthorQueryService service;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * 매니저 1명 + 담당 작가 n명, 작가마다 작품 3개(그중 1개는 DELETED)
+     * @return 매니저 users.id
+     */
+    private Long seedManagerWithAuthors(String prefix, int authorCount, long workIdBase) {
+        String managerIntegrationId = prefix + "000000";
+        em.getEntityManager().createNativeQuery("""
+                INSERT INTO users (integration_id, name, role, created_at)
+                VALUES (:id, '매니저', 'Manager', now())
+                """)
+                .setParameter("id", managerIntegrationId)
+                .executeUpdate();
+
+        em.getEntityManager().createNativeQuery("""
+                INSERT INTO users (integration_id, name, role, manager_integration_id, created_at)
+                SELECT :prefix || lpad(CAST(g AS text), 6, '0'), '작가' || g, 'Author', :manager, now()
+                FROM generate_series(1, :n) g
+                """)
+                .setParameter("prefix", prefix)
+                .setParameter("manager", managerIntegrationId)
+                .setParameter("n", authorCount)
+                .executeUpdate();
+
+        em.getEntityManager().createNativeQuery("""
+                INSERT INTO active_works_view (id, primary_author_id, title, status, created_at)
+                SELECT :base + row_number() OVER (), u.integration_id, '작품', s.status, now()
+                FROM users u
+                CROSS JOIN (VALUES ('NEW'), ('ONGOING'), ('DELETED')) AS s(status)
+                WHERE u.manager_integration_id = :manager
+                """)
+                .setParameter("base", workIdBase)
+                .setParameter("manager", managerIntegrationId)
+                .executeUpdate();
+
+        return ((Number) em.getEntityManager()
+                .createNativeQuery("SELECT id FROM users WHERE integration_id = :id")
+                .setParameter("id", managerIntegrationId)
+                .getSingleResult()).longValue();
+    }
+
+    private long statementsForAuthorList(Long managerUserId, int expectedAuthors) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        Page<AuthorCardResponseDto> page = service.getAuthors(
+                managerUserId, null, PageRequest.of(0, 500, Sort.by("name")));
+
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(page.getContent()).hasSize(expectedAuthors);
+        assertThat(page.getContent()).allSatisfy(card -> assertThat(card.getWorkCount()).isEqualTo(2L));
+        return statements;
+    }
+
+    @Test
+    void workCountsUseSameNumberOfStatementsFor3And300Authors() {
+        Long smallManager = seedManagerWithAuthors("S1", 3, 0L);
+        Long largeManager = seedManagerWithAuthors("L1", 300, 10_000L);
+
+        long small = statementsForAuthorList(smallManager, 3);
+        long large = statementsForAuthorList(largeManager, 300);
+
+        // 매니저 조회 + 작가 페이지 + 작품 수 GROUP BY (페이지가 다 차지 않으면 count 쿼리 생략)
+        assertThat(small).isLessThanOrEqualTo(3);
+        assertThat(large).isEqualTo(small);
+    }
+}